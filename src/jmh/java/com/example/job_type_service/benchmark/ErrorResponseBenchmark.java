@@ -0,0 +1,60 @@
+package com.example.job_type_service.benchmark;
+
+import com.example.job_type_service.dto.ErrorResponse;
+import com.example.job_type_service.exception.GlobalExceptionHandler;
+import com.example.job_type_service.exception.JobTypeNotFoundException;
+import com.example.job_type_service.exception.JobTypeServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error paths as the services produce them: the exception (including its stack trace) plus the
+ * {@link GlobalExceptionHandler} response, and that response encoded as JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final WebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v2/job-types/42"));
+    private final SQLException cause = new SQLException("ORA-00001: unique constraint violated", "23000", 1);
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        return handler.handleJobTypeNotFoundException(
+                new JobTypeNotFoundException("Job type with ID 42 not found"), webRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> wrappedServiceError() {
+        return handler.handleJobTypeServiceException(
+                new JobTypeServiceException("Failed to insert job type: " + cause.getMessage(), cause), webRequest);
+    }
+
+    @Benchmark
+    public byte[] notFoundJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(notFound().getBody());
+    }
+}
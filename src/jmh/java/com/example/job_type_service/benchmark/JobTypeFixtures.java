@@ -0,0 +1,144 @@
+package com.example.job_type_service.benchmark;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.entity.PJobType;
+import com.example.job_type_service.repository.PJobTypeRepository;
+import org.h2.tools.SimpleResultSet;
+import org.h2.tools.SimpleRowSource;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Catalog-sized data and in-memory stand-ins for the database layer. Rows look like production
+ * rows: short upper-case codes, descriptions of a few dozen characters, distinct timestamps.
+ */
+final class JobTypeFixtures {
+
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private JobTypeFixtures() {
+    }
+
+    static String code(int i) {
+        return "JOB_TYPE_" + i;
+    }
+
+    static List<PJobType> entities(int rows) {
+        List<PJobType> entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            entities.add(new PJobType((long) i + 1, code(i), "Description of job type number " + i,
+                    BASE_DATE.plusSeconds(i), "admin", 1L));
+        }
+        return entities;
+    }
+
+    static List<JobTypeResponse> responses(int rows) {
+        List<JobTypeResponse> responses = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            responses.add(JobTypeResponse.builder()
+                    .pJobTypeId((long) i + 1)
+                    .code(code(i))
+                    .description("Description of job type number " + i)
+                    .updateDate(BASE_DATE.plusSeconds(i))
+                    .updateBy("admin")
+                    .version(1L)
+                    .build());
+        }
+        return responses;
+    }
+
+    /**
+     * Repository whose {@code findAll} returns {@code rows}; anything else is not part of the
+     * benchmarks and fails.
+     */
+    static PJobTypeRepository repository(List<PJobType> rows) {
+        return (PJobTypeRepository) Proxy.newProxyInstance(JobTypeFixtures.class.getClassLoader(),
+                new Class<?>[]{PJobTypeRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAll" -> rows;
+                    case "toString" -> "JobTypeFixtures.repository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /**
+     * {@code JdbcTemplate} that answers every procedure call with a ref cursor over {@code rows},
+     * read through H2's in-memory result set so column lookups by label are real JDBC code.
+     */
+    static JdbcTemplate refCursorTemplate(int rows) {
+        Object[][] data = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            data[i] = new Object[]{(long) i + 1, code(i), "Description of job type number " + i,
+                    Timestamp.valueOf(BASE_DATE.plusSeconds(i)), "admin", 1L};
+        }
+        return new JdbcTemplate() {
+            @Override
+            public <T> T execute(String callString, CallableStatementCallback<T> action) {
+                try {
+                    return action.doInCallableStatement(callableStatement(refCursor(data)));
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+
+    private static ResultSet refCursor(Object[][] data) {
+        SimpleResultSet resultSet = new SimpleResultSet(new SimpleRowSource() {
+            private int next;
+
+            @Override
+            public Object[] readRow() {
+                return next < data.length ? data[next++] : null;
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public void reset() {
+                next = 0;
+            }
+        });
+        resultSet.addColumn("P_JOB_TYPE_ID", Types.NUMERIC, 19, 0);
+        resultSet.addColumn("CODE", Types.VARCHAR, 128, 0);
+        resultSet.addColumn("DESCRIPTION", Types.VARCHAR, 512, 0);
+        resultSet.addColumn("UPDATE_DATE", Types.TIMESTAMP, 0, 0);
+        resultSet.addColumn("UPDATE_BY", Types.VARCHAR, 128, 0);
+        resultSet.addColumn("VERSION", Types.NUMERIC, 19, 0);
+        return resultSet;
+    }
+
+    // Called a fixed number of times per procedure call, so reflection here does not skew results
+    private static CallableStatement callableStatement(ResultSet cursor) {
+        return (CallableStatement) Proxy.newProxyInstance(JobTypeFixtures.class.getClassLoader(),
+                new Class<?>[]{CallableStatement.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getObject")) {
+                        return cursor;
+                    }
+                    Class<?> type = method.getReturnType();
+                    if (type == boolean.class) {
+                        return false;
+                    }
+                    if (type == int.class) {
+                        return 0;
+                    }
+                    if (type == long.class) {
+                        return 0L;
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.job_type_service.benchmark;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code JobTypeResponse} JSON encoding with an {@code ObjectMapper} configured the way Spring
+ * Boot configures the one the controllers and {@code JobTypeJsonCache} use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JobTypeJsonBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    @State(Scope.Benchmark)
+    public static class Collection {
+
+        @Param({"1000", "10000", "100000", "1000000"})
+        public int rows;
+
+        List<JobTypeResponse> responses;
+
+        @Setup
+        public void setUp() {
+            responses = JobTypeFixtures.responses(rows);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Item {
+
+        JobTypeResponse response = JobTypeFixtures.responses(1).get(0);
+    }
+
+    @Benchmark
+    public byte[] collection(Collection state) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsBytes(state.responses);
+    }
+
+    @Benchmark
+    public byte[] item(Item state) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsBytes(state.response);
+    }
+}
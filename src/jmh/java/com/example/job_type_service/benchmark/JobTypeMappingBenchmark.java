@@ -0,0 +1,80 @@
+package com.example.job_type_service.benchmark;
+
+import com.example.job_type_service.cache.JobTypeCache;
+import com.example.job_type_service.cache.JobTypeCatalog;
+import com.example.job_type_service.cache.JobTypeCodeIndex;
+import com.example.job_type_service.cache.JobTypeLoadCoalescer;
+import com.example.job_type_service.cache.JobTypeSearchIndex;
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.repository.DatabaseCallMetrics;
+import com.example.job_type_service.repository.JpaStatementCounter;
+import com.example.job_type_service.repository.PJobTypeRepository;
+import com.example.job_type_service.repository.RequestTimings;
+import com.example.job_type_service.service.JobTypePaging;
+import com.example.job_type_service.service.PJobTypeJpaService;
+import com.example.job_type_service.service.PJobTypeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-collection reads with the catalog off, so every call maps every row: entity to response
+ * in {@code PJobTypeJpaService.convertToResponse}, and ref cursor row to response in
+ * {@code PJobTypeService.getAllJobTypes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JobTypeMappingBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int rows;
+
+    private PJobTypeJpaService jpaService;
+    private PJobTypeService storedProcedureService;
+
+    @Setup
+    public void setUp() {
+        PJobTypeRepository repository = JobTypeFixtures.repository(JobTypeFixtures.entities(rows));
+        JobTypeCatalog catalog = new JobTypeCatalog(repository, false, 60000);
+        JobTypeCache cache = new JobTypeCache(10000);
+        RequestTimings requestTimings = new RequestTimings(false);
+
+        jpaService = new PJobTypeJpaService(repository, cache, catalog, event -> { },
+                new JobTypePaging(50, 500), new JpaStatementCounter(), new JobTypeSearchIndex(catalog, 20, 200),
+                new JobTypeCodeIndex(catalog, 10, 50), new JobTypeLoadCoalescer(), requestTimings);
+
+        storedProcedureService = new PJobTypeService();
+        ReflectionTestUtils.setField(storedProcedureService, "jdbcTemplate", JobTypeFixtures.refCursorTemplate(rows));
+        ReflectionTestUtils.setField(storedProcedureService, "jobTypeCache", cache);
+        ReflectionTestUtils.setField(storedProcedureService, "jobTypeCatalog", catalog);
+        ReflectionTestUtils.setField(storedProcedureService, "loadCoalescer", new JobTypeLoadCoalescer());
+        ReflectionTestUtils.setField(storedProcedureService, "databaseCallMetrics", new DatabaseCallMetrics());
+        ReflectionTestUtils.setField(storedProcedureService, "requestTimings", requestTimings);
+    }
+
+    @Benchmark
+    public List<JobTypeResponse> jpaGetAll() {
+        return jpaService.getAllJobTypes();
+    }
+
+    @Benchmark
+    public List<JobTypeResponse> refCursorGetAll() {
+        return storedProcedureService.getAllJobTypes();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.job_type_service.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body that has already been run through Jackson, tagged with the ETag it was
+ * produced for. The gzip form is only built the first time a client asks for it.
+ */
+public final class EncodedJson {
+
+    private final String eTag;
+    private final byte[] json;
+    private volatile byte[] gzip;
+
+    EncodedJson(String eTag, byte[] json) {
+        this.eTag = eTag;
+        this.json = json;
+    }
+
+    public String eTag() {
+        return eTag;
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    public byte[] gzip() {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            compressed = compress(json);
+            gzip = compressed;
+        }
+        return compressed;
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(buffer)) {
+            gzipStream.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
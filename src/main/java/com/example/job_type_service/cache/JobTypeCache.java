@@ -0,0 +1,172 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.event.JobTypeChangedEvent;
+import com.example.job_type_service.event.JobTypesDeletedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded near-cache shared by the stored-procedure and JPA services. Every entry is indexed
+ * under both its ID and its code; reads are lock-free, while puts and invalidations take a
+ * single lock so the two indexes never disagree. Eviction is FIFO once {@code maxSize} is hit.
+ *
+ * <p>Callers read {@link #generation()} before going to the database and hand it back to
+ * {@link #put}; any invalidation in between bumps the generation and the stale load is dropped.
+ */
+@Component
+public class JobTypeCache implements MeterBinder {
+
+    private final int maxSize;
+    private final Map<Long, JobTypeResponse> byId = new ConcurrentHashMap<>();
+    private final Map<String, JobTypeResponse> byCode = new ConcurrentHashMap<>();
+    private final LinkedHashSet<Long> insertionOrder = new LinkedHashSet<>();
+    private final Object writeLock = new Object();
+    private volatile long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JobTypeCache(@Value("${job-type.cache.max-size:10000}") int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("job-type.cache.max-size must be positive");
+        }
+        this.maxSize = maxSize;
+    }
+
+    public JobTypeResponse getById(Long id) {
+        return record(byId.get(id));
+    }
+
+    public JobTypeResponse getByCode(String code) {
+        return record(byCode.get(code));
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public void put(long expectedGeneration, JobTypeResponse response) {
+        synchronized (writeLock) {
+            if (generation != expectedGeneration) {
+                return;
+            }
+            removeLocked(response.getPJobTypeId());
+            JobTypeResponse sameCode = byCode.get(response.getCode());
+            if (sameCode != null) {
+                removeLocked(sameCode.getPJobTypeId());
+            }
+            byId.put(response.getPJobTypeId(), response);
+            byCode.put(response.getCode(), response);
+            insertionOrder.add(response.getPJobTypeId());
+
+            Iterator<Long> eldest = insertionOrder.iterator();
+            while (byId.size() > maxSize && eldest.hasNext()) {
+                JobTypeResponse evicted = byId.remove(eldest.next());
+                eldest.remove();
+                if (evicted != null) {
+                    byCode.remove(evicted.getCode(), evicted);
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    public void invalidate(Long id, String code) {
+        synchronized (writeLock) {
+            generation++;
+            if (id != null) {
+                removeLocked(id);
+            }
+            if (code != null) {
+                JobTypeResponse byCodeEntry = byCode.get(code);
+                if (byCodeEntry != null) {
+                    removeLocked(byCodeEntry.getPJobTypeId());
+                }
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (writeLock) {
+            generation++;
+            byId.clear();
+            byCode.clear();
+            insertionOrder.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobTypeChanged(JobTypeChangedEvent event) {
+        invalidate(event.id(), event.code());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobTypesDeleted(JobTypesDeletedEvent event) {
+        event.ids().forEach(id -> invalidate(id, null));
+        event.codes().forEach(code -> invalidate(null, code));
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jobtype.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Near-cache lookups answered from memory")
+                .register(registry);
+        FunctionCounter.builder("jobtype.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Near-cache lookups that went to the database")
+                .register(registry);
+        FunctionCounter.builder("jobtype.cache.evictions", evictions, LongAdder::sum)
+                .description("Entries evicted because the near-cache was full")
+                .register(registry);
+        Gauge.builder("jobtype.cache.size", byId, Map::size)
+                .description("Entries currently held in the near-cache")
+                .register(registry);
+    }
+
+    private JobTypeResponse record(JobTypeResponse response) {
+        if (response != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return response;
+    }
+
+    private void removeLocked(Long id) {
+        JobTypeResponse removed = byId.remove(id);
+        if (removed != null) {
+            byCode.remove(removed.getCode(), removed);
+            insertionOrder.remove(id);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.entity.PJobType;
+import com.example.job_type_service.event.JobTypeChangedEvent;
+import com.example.job_type_service.event.JobTypesDeletedEvent;
+import com.example.job_type_service.repository.PJobTypeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Holds the whole job type catalog as an immutable {@link JobTypeCatalogSnapshot} that readers
+ * pick up from a volatile field without locking. The first read loads the table; afterwards a
+ * scheduled refresh pulls only rows whose {@code UPDATE_DATE} is past the snapshot watermark
+ * (minus an overlap window for late commits and clock skew) and falls back to a full reload when
+ * the row count no longer matches, which is how deletes made elsewhere are noticed. Refreshes
+ * query without holding the lock local writes need, then swap the snapshot in only if no local
+ * write moved the version meanwhile, querying again otherwise. Locks are {@link ReentrantLock}s
+ * rather than monitors so a load on a virtual thread does not pin its carrier while it waits on
+ * JDBC.
+ */
+@Component
+public class JobTypeCatalog implements MeterBinder {
+
+    private static final int MAX_REFRESH_ATTEMPTS = 3;
+
+    private final PJobTypeRepository jobTypeRepository;
+    private final boolean enabled;
+    private final Duration refreshOverlap;
+
+    private volatile JobTypeCatalogSnapshot snapshot;
+    private volatile long lastRefreshNanos;
+    // Guarded by lock, which is only held to swap the snapshot. Local writes take it after their
+    // commit, so it is never held across a query; refreshLock keeps refreshes one at a time.
+    private long nextVersion = 1;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    private final LongAdder refreshFailures = new LongAdder();
+    private volatile Timer fullRefreshTimer;
+    private volatile Timer incrementalRefreshTimer;
+
+    public JobTypeCatalog(PJobTypeRepository jobTypeRepository,
+                          @Value("${job-type.catalog.enabled:true}") boolean enabled,
+                          @Value("${job-type.catalog.refresh-overlap-ms:60000}") long refreshOverlapMs) {
+        this.jobTypeRepository = jobTypeRepository;
+        this.enabled = enabled;
+        this.refreshOverlap = Duration.ofMillis(refreshOverlapMs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public JobTypeCatalogSnapshot current() {
+        JobTypeCatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        refreshLock.lock();
+        try {
+            if (snapshot == null) {
+                reload();
+            }
+            return snapshot;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${job-type.catalog.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        if (!enabled || snapshot == null) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            refreshFailures.increment();
+        }
+    }
+
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                JobTypeCatalogSnapshot base = snapshot;
+                if (base == null || base.watermark() == null) {
+                    reload();
+                    return;
+                }
+                long seen = currentVersion();
+                long start = System.nanoTime();
+                List<JobTypeResponse> changed = jobTypeRepository.findByUpdateDateAfter(base.watermark().minus(refreshOverlap))
+                        .stream()
+                        .map(JobTypeCatalog::toResponse)
+                        .toList();
+                long count = jobTypeRepository.count();
+                Boolean applied = applyIfUnchanged(seen, attempt, () -> {
+                    JobTypeCatalogSnapshot latest = snapshot;
+                    JobTypeCatalogSnapshot refreshed = changed.isEmpty() ? latest : latest.withRefreshed(nextVersion(), changed);
+                    if (refreshed.size() != count) {
+                        return false;
+                    }
+                    publish(refreshed, start, incrementalRefreshTimer);
+                    return true;
+                });
+                if (applied == null) {
+                    continue;
+                }
+                if (!applied) {
+                    reload();
+                }
+                return;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public void reload() {
+        refreshLock.lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                long seen = currentVersion();
+                long start = System.nanoTime();
+                List<JobTypeResponse> all = jobTypeRepository.findAll().stream()
+                        .map(JobTypeCatalog::toResponse)
+                        .toList();
+                if (applyIfUnchanged(seen, attempt, () -> {
+                    publish(JobTypeCatalogSnapshot.of(nextVersion(), all), start, fullRefreshTimer);
+                    return true;
+                }) != null) {
+                    return;
+                }
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code apply} under the write lock if no local write has moved the version since
+     * {@code seen} was read; returns {@code null} when the caller should query again. The last
+     * attempt applies regardless, leaving any write it overtakes to the next scheduled refresh.
+     */
+    private Boolean applyIfUnchanged(long seen, int attempt, Supplier<Boolean> apply) {
+        lock.lock();
+        try {
+            if (nextVersion != seen && attempt < MAX_REFRESH_ATTEMPTS) {
+                return null;
+            }
+            return apply.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobTypeChanged(JobTypeChangedEvent event) {
+        lock.lock();
+        try {
+            JobTypeCatalogSnapshot base = snapshot;
+            if (base == null) {
+                nextVersion();
+                return;
+            }
+            snapshot = event.isDeletion()
+                    ? base.withDeleted(nextVersion(), event.id(), event.code())
+                    : base.withSaved(nextVersion(), event.current());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobTypesDeleted(JobTypesDeletedEvent event) {
+        lock.lock();
+        try {
+            JobTypeCatalogSnapshot base = snapshot;
+            if (base == null) {
+                nextVersion();
+                return;
+            }
+            snapshot = base.withDeleted(nextVersion(), event.ids(), event.codes());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        fullRefreshTimer = Timer.builder("jobtype.catalog.refresh")
+                .tag("type", "full")
+                .description("Time taken to load the whole job type catalog")
+                .register(registry);
+        incrementalRefreshTimer = Timer.builder("jobtype.catalog.refresh")
+                .tag("type", "incremental")
+                .description("Time taken by watermark-based catalog refreshes")
+                .register(registry);
+        FunctionCounter.builder("jobtype.catalog.refresh.failures", refreshFailures, LongAdder::sum)
+                .description("Scheduled catalog refreshes that failed")
+                .register(registry);
+        Gauge.builder("jobtype.catalog.size", this, catalog -> {
+                    JobTypeCatalogSnapshot current = catalog.snapshot;
+                    return current == null ? 0 : current.size();
+                })
+                .description("Job types held in the catalog snapshot")
+                .register(registry);
+        Gauge.builder("jobtype.catalog.refresh.lag", this, JobTypeCatalog::refreshLagSeconds)
+                .baseUnit("seconds")
+                .description("Time since the catalog snapshot was last reconciled with the database")
+                .register(registry);
+    }
+
+    double refreshLagSeconds() {
+        if (snapshot == null) {
+            return Double.NaN;
+        }
+        return (System.nanoTime() - lastRefreshNanos) / 1_000_000_000.0;
+    }
+
+    private void publish(JobTypeCatalogSnapshot refreshed, long startNanos, Timer timer) {
+        snapshot = refreshed;
+        lastRefreshNanos = System.nanoTime();
+        if (timer != null) {
+            timer.record(lastRefreshNanos - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long nextVersion() {
+        return nextVersion++;
+    }
+
+    private long currentVersion() {
+        lock.lock();
+        try {
+            return nextVersion;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static JobTypeResponse toResponse(PJobType jobType) {
+        return JobTypeResponse.builder()
+                .pJobTypeId(jobType.getPJobTypeId())
+                .code(jobType.getCode())
+                .description(jobType.getDescription())
+                .updateDate(jobType.getUpdateDate())
+                .updateBy(jobType.getUpdateBy())
+                .version(jobType.getVersion())
+                .build();
+    }
+}
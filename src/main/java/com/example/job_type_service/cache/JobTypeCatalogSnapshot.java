@@ -0,0 +1,196 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Immutable view of the whole {@code P_JOB_TYPE} table. Every change produces a new snapshot
+ * with a higher {@link #version()}; the sorted views are derived lazily and then memoized.
+ */
+public final class JobTypeCatalogSnapshot {
+
+    private static final Comparator<JobTypeResponse> BY_CODE =
+            Comparator.comparing(JobTypeResponse::getCode).thenComparing(JobTypeResponse::getPJobTypeId);
+    private static final Comparator<JobTypeResponse> BY_UPDATE_DATE_DESC =
+            Comparator.comparing(JobTypeResponse::getUpdateDate, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final long version;
+    private final NavigableMap<Long, JobTypeResponse> byId;
+    private final LocalDateTime watermark;
+    private final List<JobTypeResponse> orderedById;
+    private volatile List<JobTypeResponse> orderedByCode;
+    private volatile List<JobTypeResponse> orderedByUpdateDateDesc;
+    private volatile LocalDateTime maxUpdateDate;
+
+    private JobTypeCatalogSnapshot(long version, NavigableMap<Long, JobTypeResponse> byId, LocalDateTime watermark) {
+        this.version = version;
+        this.byId = Collections.unmodifiableNavigableMap(byId);
+        this.watermark = watermark;
+        this.orderedById = List.copyOf(byId.values());
+    }
+
+    static JobTypeCatalogSnapshot of(long version, Collection<JobTypeResponse> jobTypes) {
+        NavigableMap<Long, JobTypeResponse> byId = new TreeMap<>();
+        for (JobTypeResponse jobType : jobTypes) {
+            byId.put(jobType.getPJobTypeId(), jobType);
+        }
+        return new JobTypeCatalogSnapshot(version, byId, maxUpdateDate(jobTypes, null));
+    }
+
+    /**
+     * Rows read back from the database; they advance the refresh watermark.
+     */
+    JobTypeCatalogSnapshot withRefreshed(long newVersion, Collection<JobTypeResponse> changed) {
+        if (changed.stream().allMatch(jobType -> sameRow(byId.get(jobType.getPJobTypeId()), jobType))) {
+            return this;
+        }
+        NavigableMap<Long, JobTypeResponse> copy = new TreeMap<>(byId);
+        changed.forEach(jobType -> copy.put(jobType.getPJobTypeId(), jobType));
+        return new JobTypeCatalogSnapshot(newVersion, copy, maxUpdateDate(changed, watermark));
+    }
+
+    /**
+     * A write made through this node. The watermark is left alone so rows committed elsewhere
+     * with an earlier {@code UPDATE_DATE} are still picked up by the next refresh.
+     */
+    JobTypeCatalogSnapshot withSaved(long newVersion, JobTypeResponse saved) {
+        JobTypeResponse existing = byId.get(saved.getPJobTypeId());
+        if (existing != null && existing.getUpdateDate() != null && saved.getUpdateDate() != null
+                && existing.getUpdateDate().isAfter(saved.getUpdateDate())) {
+            return this;
+        }
+        NavigableMap<Long, JobTypeResponse> copy = new TreeMap<>(byId);
+        copy.put(saved.getPJobTypeId(), saved);
+        return new JobTypeCatalogSnapshot(newVersion, copy, watermark);
+    }
+
+    JobTypeCatalogSnapshot withDeleted(long newVersion, Long id, String code) {
+        return withDeleted(newVersion, id == null ? Set.of() : Set.of(id), code == null ? Set.of() : Set.of(code));
+    }
+
+    // One copy of the map however many keys a bulk delete names
+    JobTypeCatalogSnapshot withDeleted(long newVersion, Set<Long> ids, Set<String> codes) {
+        NavigableMap<Long, JobTypeResponse> copy = new TreeMap<>(byId);
+        boolean removed = copy.keySet().removeAll(ids);
+        if (!codes.isEmpty()) {
+            removed |= copy.values().removeIf(jobType -> codes.contains(jobType.getCode()));
+        }
+        return removed ? new JobTypeCatalogSnapshot(newVersion, copy, watermark) : this;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public LocalDateTime watermark() {
+        return watermark;
+    }
+
+    public LocalDateTime maxUpdateDate() {
+        LocalDateTime max = maxUpdateDate;
+        if (max == null && !byId.isEmpty()) {
+            max = maxUpdateDate(byId.values(), null);
+            maxUpdateDate = max;
+        }
+        return max;
+    }
+
+    public JobTypeResponse get(Long id) {
+        return byId.get(id);
+    }
+
+    public List<JobTypeResponse> orderedById() {
+        return orderedById;
+    }
+
+    public List<JobTypeResponse> orderedByCode() {
+        List<JobTypeResponse> sorted = orderedByCode;
+        if (sorted == null) {
+            sorted = sortedCopy(BY_CODE);
+            orderedByCode = sorted;
+        }
+        return sorted;
+    }
+
+    public List<JobTypeResponse> orderedByUpdateDateDesc() {
+        List<JobTypeResponse> sorted = orderedByUpdateDateDesc;
+        if (sorted == null) {
+            sorted = sortedCopy(BY_UPDATE_DATE_DESC);
+            orderedByUpdateDateDesc = sorted;
+        }
+        return sorted;
+    }
+
+    /**
+     * Up to {@code limit} rows with an ID greater than {@code afterId} (all rows when it is null).
+     */
+    public List<JobTypeResponse> pageById(Long afterId, int limit) {
+        Collection<JobTypeResponse> tail = afterId == null ? byId.values() : byId.tailMap(afterId, false).values();
+        return tail.stream().limit(limit).toList();
+    }
+
+    /**
+     * Up to {@code limit} rows after {@code (afterCode, afterId)} in code order.
+     */
+    public List<JobTypeResponse> pageByCode(String afterCode, Long afterId, int limit) {
+        List<JobTypeResponse> sorted = orderedByCode();
+        int from = 0;
+        if (afterCode != null) {
+            JobTypeResponse key = JobTypeResponse.builder().code(afterCode).pJobTypeId(afterId).build();
+            int index = Collections.binarySearch(sorted, key, BY_CODE);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        return sorted.subList(from, Math.min(sorted.size(), from + limit));
+    }
+
+    public List<JobTypeResponse> filter(Predicate<JobTypeResponse> predicate) {
+        List<JobTypeResponse> matches = new ArrayList<>();
+        for (JobTypeResponse jobType : orderedById) {
+            if (predicate.test(jobType)) {
+                matches.add(jobType);
+            }
+        }
+        return Collections.unmodifiableList(matches);
+    }
+
+    private List<JobTypeResponse> sortedCopy(Comparator<JobTypeResponse> comparator) {
+        List<JobTypeResponse> sorted = new ArrayList<>(orderedById);
+        sorted.sort(comparator);
+        return Collections.unmodifiableList(sorted);
+    }
+
+    private static boolean sameRow(JobTypeResponse existing, JobTypeResponse candidate) {
+        return existing != null
+                && Objects.equals(existing.getCode(), candidate.getCode())
+                && Objects.equals(existing.getDescription(), candidate.getDescription())
+                && Objects.equals(existing.getUpdateDate(), candidate.getUpdateDate())
+                && Objects.equals(existing.getUpdateBy(), candidate.getUpdateBy())
+                && Objects.equals(existing.getVersion(), candidate.getVersion());
+    }
+
+    private static LocalDateTime maxUpdateDate(Collection<JobTypeResponse> jobTypes, LocalDateTime initial) {
+        LocalDateTime max = initial;
+        for (JobTypeResponse jobType : jobTypes) {
+            LocalDateTime updateDate = jobType.getUpdateDate();
+            if (updateDate != null && (max == null || updateDate.isAfter(max))) {
+                max = updateDate;
+            }
+        }
+        return max;
+    }
+}
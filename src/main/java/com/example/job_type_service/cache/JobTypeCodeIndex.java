@@ -0,0 +1,251 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.exception.JobTypeServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Codes folded to lower case in one sorted array, for prefix (typeahead) lookups: a binary search
+ * finds the first code at or after the prefix and the matches follow contiguously. The arrays are
+ * immutable and swapped as a whole, so a query takes no lock and allocates only its result list.
+ * When the {@link JobTypeCatalog} snapshot moves, changed rows are merged into a copy of the
+ * arrays instead of re-sorting everything, and only those rows have their codes folded.
+ */
+@Component
+public class JobTypeCodeIndex implements MeterBinder {
+
+    // Matches the CODE column; no longer prefix can match anything
+    private static final int MAX_CODE_LENGTH = 128;
+
+    private final JobTypeCatalog jobTypeCatalog;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    private volatile Entries entries = Entries.EMPTY;
+
+    // Held only to rebuild, so one caller folds a new catalog version while the others wait for it
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Timer fullBuildTimer;
+    private volatile Timer incrementalBuildTimer;
+
+    /**
+     * {@code keys[i]} is the folded code of {@code rows[i]}; ordered by key, then ID. {@code byId}
+     * is the indexed snapshot's ID-ordered list, kept to diff against the next snapshot.
+     */
+    private record Entries(long version, String[] keys, JobTypeResponse[] rows, List<JobTypeResponse> byId) {
+
+        static final Entries EMPTY = new Entries(-1, new String[0], new JobTypeResponse[0], List.of());
+    }
+
+    // A row with its code folded once, for sorting and merging
+    private record Keyed(String key, JobTypeResponse row) {
+
+        static final Comparator<Keyed> ORDER = Comparator.comparing(Keyed::key)
+                .thenComparingLong(keyed -> keyed.row().getPJobTypeId());
+
+        static Keyed of(JobTypeResponse row) {
+            return new Keyed(fold(row.getCode()), row);
+        }
+    }
+
+    public JobTypeCodeIndex(JobTypeCatalog jobTypeCatalog,
+                            @Value("${job-type.suggest.default-limit:10}") int defaultLimit,
+                            @Value("${job-type.suggest.max-limit:50}") int maxLimit) {
+        this.jobTypeCatalog = jobTypeCatalog;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public int resolveLimit(Integer requested) {
+        if (requested == null) {
+            return Math.min(defaultLimit, maxLimit);
+        }
+        if (requested < 1) {
+            throw new JobTypeServiceException("Suggestion limit must be at least 1");
+        }
+        return Math.min(requested, maxLimit);
+    }
+
+    /**
+     * Up to {@code limit} job types whose code starts with {@code prefix}, ignoring case, in code
+     * order. An empty prefix lists the first codes.
+     */
+    public List<JobTypeResponse> suggest(String prefix, int limit) {
+        String folded = normalizePrefix(prefix);
+        Entries current = syncWithCatalog();
+        String[] keys = current.keys();
+        int from = lowerBound(keys, folded);
+        int to = from;
+        while (to < keys.length && to - from < limit && keys[to].startsWith(folded)) {
+            to++;
+        }
+        return Collections.unmodifiableList(Arrays.asList(current.rows()).subList(from, to));
+    }
+
+    /**
+     * Trims and lower-cases a prefix the way codes are folded in the index, rejecting prefixes
+     * longer than any code.
+     */
+    public static String normalizePrefix(String prefix) {
+        String folded = fold(prefix);
+        if (folded.length() > MAX_CODE_LENGTH) {
+            throw new JobTypeServiceException("Prefix cannot exceed " + MAX_CODE_LENGTH + " characters");
+        }
+        return folded;
+    }
+
+    public int size() {
+        return entries.keys().length;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        fullBuildTimer = Timer.builder("jobtype.suggest.index.build")
+                .tag("type", "full")
+                .description("Time taken to build the code prefix index from a catalog snapshot")
+                .register(registry);
+        incrementalBuildTimer = Timer.builder("jobtype.suggest.index.build")
+                .tag("type", "incremental")
+                .description("Time taken to merge catalog changes into the code prefix index")
+                .register(registry);
+        Gauge.builder("jobtype.suggest.index.codes", this, JobTypeCodeIndex::size)
+                .description("Codes in the prefix index")
+                .register(registry);
+    }
+
+    Entries syncWithCatalog() {
+        JobTypeCatalogSnapshot snapshot = jobTypeCatalog.current();
+        Entries current = entries;
+        if (current.version() == snapshot.version()) {
+            return current;
+        }
+        rebuildLock.lock();
+        try {
+            current = entries;
+            if (current.version() == snapshot.version()) {
+                return current;
+            }
+            long start = System.nanoTime();
+            boolean full = current.keys().length == 0;
+            Entries rebuilt = full ? build(snapshot) : merge(current, snapshot);
+            entries = rebuilt;
+            Timer timer = full ? fullBuildTimer : incrementalBuildTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            return rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static Entries build(JobTypeCatalogSnapshot snapshot) {
+        List<Keyed> sorted = new ArrayList<>(snapshot.size());
+        for (JobTypeResponse row : snapshot.orderedById()) {
+            sorted.add(Keyed.of(row));
+        }
+        sorted.sort(Keyed.ORDER);
+        String[] keys = new String[sorted.size()];
+        JobTypeResponse[] rows = new JobTypeResponse[sorted.size()];
+        for (int i = 0; i < rows.length; i++) {
+            keys[i] = sorted.get(i).key();
+            rows[i] = sorted.get(i).row();
+        }
+        return new Entries(snapshot.version(), keys, rows, snapshot.orderedById());
+    }
+
+    // Both snapshots list rows in ID order, so one walk finds the rows that were added, replaced
+    // or deleted. Only added and replaced rows are folded; unchanged rows keep their key and
+    // position, and the added ones are merged in by key.
+    private static Entries merge(Entries current, JobTypeCatalogSnapshot snapshot) {
+        List<Keyed> added = new ArrayList<>();
+        Set<Long> stale = new HashSet<>();
+        List<JobTypeResponse> before = current.byId();
+        List<JobTypeResponse> after = snapshot.orderedById();
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            JobTypeResponse old = i < before.size() ? before.get(i) : null;
+            JobTypeResponse now = j < after.size() ? after.get(j) : null;
+            int byId = old == null ? 1 : now == null ? -1 : Long.compare(old.getPJobTypeId(), now.getPJobTypeId());
+            if (byId < 0) {
+                stale.add(old.getPJobTypeId());
+                i++;
+            } else if (byId > 0) {
+                added.add(Keyed.of(now));
+                j++;
+            } else {
+                if (old != now) {
+                    stale.add(old.getPJobTypeId());
+                    added.add(Keyed.of(now));
+                }
+                i++;
+                j++;
+            }
+        }
+        added.sort(Keyed.ORDER);
+
+        String[] keys = new String[after.size()];
+        JobTypeResponse[] rows = new JobTypeResponse[after.size()];
+        int n = 0;
+        int next = 0;
+        for (int k = 0; k < current.rows().length; k++) {
+            JobTypeResponse row = current.rows()[k];
+            if (stale.contains(row.getPJobTypeId())) {
+                continue;
+            }
+            String key = current.keys()[k];
+            while (next < added.size() && compare(added.get(next), key, row) < 0) {
+                keys[n] = added.get(next).key();
+                rows[n++] = added.get(next++).row();
+            }
+            keys[n] = key;
+            rows[n++] = row;
+        }
+        for (; next < added.size(); next++) {
+            keys[n] = added.get(next).key();
+            rows[n++] = added.get(next).row();
+        }
+        return new Entries(snapshot.version(), keys, rows, after);
+    }
+
+    private static int lowerBound(String[] keys, String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(Keyed added, String key, JobTypeResponse row) {
+        int byKey = added.key().compareTo(key);
+        return byKey != 0 ? byKey : Long.compare(added.row().getPJobTypeId(), row.getPJobTypeId());
+    }
+
+    private static String fold(String code) {
+        return code == null ? "" : code.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.event.JobTypeChangedEvent;
+import com.example.job_type_service.event.JobTypesDeletedEvent;
+import com.example.job_type_service.repository.RequestTimings;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps already-serialized JSON for the full collection and for recently read items so the
+ * controllers can write bytes instead of running Jackson on every request. Entries are keyed
+ * by the ETag they were encoded for, so a changed row can never be served from a stale entry;
+ * writes also drop the affected entries eagerly.
+ */
+@Component
+public class JobTypeJsonCache implements MeterBinder {
+
+    private final ObjectMapper objectMapper;
+    private final RequestTimings requestTimings;
+    private final int maxItems;
+    private final Map<String, EncodedJson> collections = new ConcurrentHashMap<>();
+    private final Map<Long, EncodedJson> items = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JobTypeJsonCache(ObjectMapper objectMapper, RequestTimings requestTimings,
+                            @Value("${job-type.json-cache.max-items:1000}") int maxItems) {
+        this.objectMapper = objectMapper;
+        this.requestTimings = requestTimings;
+        this.maxItems = maxItems;
+    }
+
+    public EncodedJson collection(String name, String eTag, Supplier<List<JobTypeResponse>> loader) {
+        EncodedJson cached = collections.get(name);
+        if (cached != null && cached.eTag().equals(eTag)) {
+            hits.increment();
+            requestTimings.flag(RequestTimings.JSON_CACHE, "hit");
+            return cached;
+        }
+        misses.increment();
+        requestTimings.flag(RequestTimings.JSON_CACHE, "miss");
+        EncodedJson encoded = new EncodedJson(eTag, serialize(loader.get()));
+        collections.put(name, encoded);
+        return encoded;
+    }
+
+    public EncodedJson item(String eTag, JobTypeResponse response) {
+        Long id = response.getPJobTypeId();
+        EncodedJson cached = items.get(id);
+        if (cached != null && cached.eTag().equals(eTag)) {
+            hits.increment();
+            requestTimings.flag(RequestTimings.JSON_CACHE, "hit");
+            return cached;
+        }
+        misses.increment();
+        requestTimings.flag(RequestTimings.JSON_CACHE, "miss");
+        EncodedJson encoded = new EncodedJson(eTag, serialize(response));
+        if (cached == null && items.size() >= maxItems) {
+            Iterator<Long> victims = items.keySet().iterator();
+            if (victims.hasNext()) {
+                victims.next();
+                victims.remove();
+            }
+        }
+        items.put(id, encoded);
+        return encoded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobTypeChanged(JobTypeChangedEvent event) {
+        collections.clear();
+        if (event.id() != null) {
+            items.remove(event.id());
+        } else {
+            items.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobTypesDeleted(JobTypesDeletedEvent event) {
+        collections.clear();
+        if (event.codes().isEmpty()) {
+            items.keySet().removeAll(event.ids());
+        } else {
+            items.clear();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jobtype.json.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Responses written from pre-serialized JSON")
+                .register(registry);
+        FunctionCounter.builder("jobtype.json.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Responses that had to be serialized")
+                .register(registry);
+    }
+
+    private byte[] serialize(Object value) {
+        return requestTimings.time(RequestTimings.Phase.SERIALIZATION, () -> {
+            try {
+                return objectMapper.writeValueAsBytes(value);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize job type response: " + e.getMessage(), e);
+            }
+        });
+    }
+}
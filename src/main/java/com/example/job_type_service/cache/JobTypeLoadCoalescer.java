@@ -0,0 +1,91 @@
+package com.example.job_type_service.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for cache misses: the first caller for a key runs the load and every caller that
+ * arrives while it is in flight waits for the same result, or the same exception. Keys carry the
+ * {@link JobTypeCache#generation()} read before the load, so a caller that starts after a write
+ * never joins a load that began before it.
+ */
+@Component
+public class JobTypeLoadCoalescer implements MeterBinder {
+
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    private record FlightKey(String operation, Object key, long generation) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String operation, Object key, long generation, Supplier<T> loader) {
+        FlightKey flightKey = new FlightKey(operation, key, generation);
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, mine);
+        if (leader != null) {
+            coalesced.increment();
+            return (T) await(leader);
+        }
+        executed.increment();
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jobtype.load.calls", executed, LongAdder::sum)
+                .tag("result", "executed")
+                .description("Cache-miss loads that went to the database")
+                .register(registry);
+        FunctionCounter.builder("jobtype.load.calls", coalesced, LongAdder::sum)
+                .tag("result", "coalesced")
+                .description("Cache-miss loads that joined an identical load already in flight")
+                .register(registry);
+        Gauge.builder("jobtype.load.inflight", inFlight, Map::size)
+                .description("Distinct loads currently in flight")
+                .register(registry);
+    }
+
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,384 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.exception.JobTypeServiceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Case-insensitive substring search over {@code CODE} and {@code DESCRIPTION} backed by a trigram
+ * inverted index. Each trigram maps to a sorted array of job type IDs; a query intersects the
+ * arrays of its trigrams and verifies the survivors, so no row is scanned unless it shares every
+ * trigram with the query. The index follows {@link JobTypeCatalog}: when the snapshot version
+ * moves, only rows whose instance changed are re-tokenized. Queries against an unchanged version
+ * only take the read lock.
+ */
+@Component
+public class JobTypeSearchIndex implements MeterBinder {
+
+    // Rough per-entry costs on a 64-bit JVM with compressed oops, for the footprint gauge
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int MAP_ENTRY_BYTES = 32;
+    private static final int TRIGRAM_KEY_BYTES = 48;
+    private static final int DOCUMENT_BYTES = 64;
+
+    private final JobTypeCatalog jobTypeCatalog;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, long[]> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private volatile long indexedVersion = -1;
+    private long postingCount;
+    private long documentChars;
+
+    private volatile Timer fullBuildTimer;
+    private volatile Timer incrementalBuildTimer;
+
+    // Trigrams are not kept per document; unindex re-derives them from code and description
+    private record Document(JobTypeResponse row, String code, String description) {
+    }
+
+    public JobTypeSearchIndex(JobTypeCatalog jobTypeCatalog,
+                              @Value("${job-type.search.default-limit:20}") int defaultLimit,
+                              @Value("${job-type.search.max-limit:200}") int maxLimit) {
+        this.jobTypeCatalog = jobTypeCatalog;
+        this.defaultLimit = defaultLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public int resolveLimit(Integer requested) {
+        if (requested == null) {
+            return Math.min(defaultLimit, maxLimit);
+        }
+        if (requested < 1) {
+            throw new JobTypeServiceException("Search limit must be at least 1");
+        }
+        return Math.min(requested, maxLimit);
+    }
+
+    /**
+     * Up to {@code limit} job types whose code or description contains {@code query}, best
+     * matches first: exact code, code prefix, code substring, then description word prefix and
+     * description substring; ties go to the earlier match, then the lower ID.
+     */
+    public List<JobTypeResponse> search(String query, int limit) {
+        String needle = normalize(query);
+        if (needle.isEmpty()) {
+            throw new JobTypeServiceException("Search query must not be blank");
+        }
+        JobTypeCatalogSnapshot snapshot = jobTypeCatalog.current();
+        if (snapshot.version() != indexedVersion) {
+            syncWithCatalog(snapshot);
+        }
+        lock.readLock().lock();
+        try {
+            List<Match> matches = new ArrayList<>();
+            for (Document document : candidates(needle)) {
+                Match match = Match.of(document, needle);
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+            matches.sort(Match.BEST_FIRST);
+            return matches.stream().limit(limit).map(match -> match.document().row()).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Estimated heap held by the index: posting arrays, map entries and the lower-cased text
+     * kept for verification, which is also where trigrams are re-derived from on removal. Good
+     * for trends, not for exact accounting.
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return postingCount * Long.BYTES
+                    + (long) postings.size() * (ARRAY_HEADER_BYTES + MAP_ENTRY_BYTES + TRIGRAM_KEY_BYTES)
+                    + (long) documents.size() * (DOCUMENT_BYTES + MAP_ENTRY_BYTES)
+                    + documentChars;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        fullBuildTimer = Timer.builder("jobtype.search.index.build")
+                .tag("type", "full")
+                .description("Time taken to build the trigram index from a catalog snapshot")
+                .register(registry);
+        incrementalBuildTimer = Timer.builder("jobtype.search.index.build")
+                .tag("type", "incremental")
+                .description("Time taken to apply catalog changes to the trigram index")
+                .register(registry);
+        Gauge.builder("jobtype.search.index.documents", this, JobTypeSearchIndex::documentCount)
+                .description("Job types in the search index")
+                .register(registry);
+        Gauge.builder("jobtype.search.index.trigrams", this, JobTypeSearchIndex::trigramCount)
+                .description("Distinct trigrams in the search index")
+                .register(registry);
+        Gauge.builder("jobtype.search.index.memory", this, JobTypeSearchIndex::estimatedBytes)
+                .description("Estimated heap used by the search index")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    void syncWithCatalog() {
+        syncWithCatalog(jobTypeCatalog.current());
+    }
+
+    private void syncWithCatalog(JobTypeCatalogSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            if (snapshot.version() == indexedVersion) {
+                return;
+            }
+            long start = System.nanoTime();
+            boolean full = documents.isEmpty();
+            if (full) {
+                build(snapshot.orderedById());
+            } else {
+                merge(snapshot.orderedById());
+            }
+            indexedVersion = snapshot.version();
+            Timer timer = full ? fullBuildTimer : incrementalBuildTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Rows arrive in ID order, so each trigram's IDs are appended already sorted and turned into
+    // an array once at the end instead of being copied on every insert
+    private void build(List<JobTypeResponse> rows) {
+        Map<String, IdBuffer> buffers = new HashMap<>();
+        for (JobTypeResponse row : rows) {
+            Document document = document(row);
+            for (String trigram : trigramsOf(document)) {
+                buffers.computeIfAbsent(trigram, key -> new IdBuffer()).add(row.getPJobTypeId());
+                postingCount++;
+            }
+            documents.put(row.getPJobTypeId(), document);
+            documentChars += 2L * (document.code().length() + document.description().length());
+        }
+        buffers.forEach((trigram, buffer) -> postings.put(trigram, buffer.toArray()));
+    }
+
+    private void merge(List<JobTypeResponse> rows) {
+        Set<Long> present = new HashSet<>();
+        for (JobTypeResponse row : rows) {
+            present.add(row.getPJobTypeId());
+            Document existing = documents.get(row.getPJobTypeId());
+            if (existing == null || existing.row() != row) {
+                index(row, existing);
+            }
+        }
+        if (documents.size() > present.size()) {
+            for (Long id : new ArrayList<>(documents.keySet())) {
+                if (!present.contains(id)) {
+                    unindex(documents.remove(id));
+                }
+            }
+        }
+    }
+
+    private void index(JobTypeResponse row, Document existing) {
+        Document document = document(row);
+        if (existing != null && existing.code().equals(document.code())
+                && existing.description().equals(document.description())) {
+            documents.put(row.getPJobTypeId(), document);
+            return;
+        }
+        if (existing != null) {
+            unindex(existing);
+        }
+        for (String trigram : trigramsOf(document)) {
+            postings.merge(trigram, new long[]{row.getPJobTypeId()}, JobTypeSearchIndex::insertSorted);
+            postingCount++;
+        }
+        documents.put(row.getPJobTypeId(), document);
+        documentChars += 2L * (document.code().length() + document.description().length());
+    }
+
+    private void unindex(Document document) {
+        long id = document.row().getPJobTypeId();
+        for (String trigram : trigramsOf(document)) {
+            long[] ids = postings.get(trigram);
+            int at = ids == null ? -1 : Arrays.binarySearch(ids, id);
+            if (at < 0) {
+                continue;
+            }
+            postingCount--;
+            if (ids.length == 1) {
+                postings.remove(trigram);
+            } else {
+                long[] shrunk = new long[ids.length - 1];
+                System.arraycopy(ids, 0, shrunk, 0, at);
+                System.arraycopy(ids, at + 1, shrunk, at, ids.length - at - 1);
+                postings.put(trigram, shrunk);
+            }
+        }
+        documentChars -= 2L * (document.code().length() + document.description().length());
+    }
+
+    private List<Document> candidates(String needle) {
+        if (needle.length() < 3) {
+            return List.copyOf(documents.values());
+        }
+        Set<String> trigrams = new LinkedHashSet<>();
+        addTrigrams(needle, trigrams);
+        List<long[]> lists = new ArrayList<>(trigrams.size());
+        for (String trigram : trigrams) {
+            long[] ids = postings.get(trigram);
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(ids -> ids.length));
+        long[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        List<Document> candidates = new ArrayList<>(result.length);
+        for (long id : result) {
+            candidates.add(documents.get(id));
+        }
+        return candidates;
+    }
+
+    private static Document document(JobTypeResponse row) {
+        return new Document(row, normalize(row.getCode()), normalize(row.getDescription()));
+    }
+
+    private static Set<String> trigramsOf(Document document) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        addTrigrams(document.code(), trigrams);
+        addTrigrams(document.description(), trigrams);
+        return trigrams;
+    }
+
+    private static long[] insertSorted(long[] ids, long[] single) {
+        long id = single[0];
+        int at = Arrays.binarySearch(ids, id);
+        if (at >= 0) {
+            return ids;
+        }
+        int insertAt = -at - 1;
+        long[] grown = new long[ids.length + 1];
+        System.arraycopy(ids, 0, grown, 0, insertAt);
+        grown[insertAt] = id;
+        System.arraycopy(ids, insertAt, grown, insertAt + 1, ids.length - insertAt);
+        return grown;
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static void addTrigrams(String text, Set<String> trigrams) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + 3));
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class IdBuffer {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+    private record Match(Document document, int tier, int position) {
+
+        static final Comparator<Match> BEST_FIRST = Comparator.comparingInt(Match::tier)
+                .thenComparingInt(Match::position)
+                .thenComparing(match -> match.document().row().getPJobTypeId());
+
+        static Match of(Document document, String needle) {
+            int inCode = document.code().indexOf(needle);
+            if (inCode >= 0) {
+                int tier = document.code().equals(needle) ? 0 : inCode == 0 ? 1 : 2;
+                return new Match(document, tier, inCode);
+            }
+            int inDescription = document.description().indexOf(needle);
+            if (inDescription < 0) {
+                return null;
+            }
+            boolean wordStart = inDescription == 0
+                    || !Character.isLetterOrDigit(document.description().charAt(inDescription - 1));
+            return new Match(document, wordStart ? 3 : 4, inDescription);
+        }
+    }
+}
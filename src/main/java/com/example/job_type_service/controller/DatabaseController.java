@@ -19,6 +19,14 @@ import java.util.Map;
 @Tag(name = "Database Information", description = "Database information and status endpoints")
 public class DatabaseController {
 
+    // Public so the offline profile's PackTestEmulator can translate these Oracle-only queries
+    public static final String VERSION_QUERY = "SELECT banner FROM v$version WHERE rownum = 1";
+    public static final String TABLE_QUERY = "SELECT table_name FROM user_tables WHERE table_name = 'P_JOB_TYPE'";
+    public static final String SEQUENCE_QUERY =
+            "SELECT sequence_name FROM user_sequences WHERE sequence_name = 'SEQ_P_JOB_TYPE'";
+    public static final String PACKAGE_QUERY =
+            "SELECT object_name FROM user_objects WHERE object_type = 'PACKAGE' AND object_name = 'PACK_TEST'";
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -32,19 +40,16 @@ public class DatabaseController {
         Map<String, Object> info = new HashMap<>();
         
         try {
-            String version = jdbcTemplate.queryForObject("SELECT banner FROM v$version WHERE rownum = 1", String.class);
+            String version = jdbcTemplate.queryForObject(VERSION_QUERY, String.class);
             info.put("version", version);
             
-            List<Map<String, Object>> tables = jdbcTemplate.queryForList(
-                "SELECT table_name FROM user_tables WHERE table_name = 'P_JOB_TYPE'");
+            List<Map<String, Object>> tables = jdbcTemplate.queryForList(TABLE_QUERY);
             info.put("p_job_type_table_exists", !tables.isEmpty());
             
-            List<Map<String, Object>> sequences = jdbcTemplate.queryForList(
-                "SELECT sequence_name FROM user_sequences WHERE sequence_name = 'SEQ_P_JOB_TYPE'");
+            List<Map<String, Object>> sequences = jdbcTemplate.queryForList(SEQUENCE_QUERY);
             info.put("seq_p_job_type_exists", !sequences.isEmpty());
             
-            List<Map<String, Object>> packages = jdbcTemplate.queryForList(
-                "SELECT object_name FROM user_objects WHERE object_type = 'PACKAGE' AND object_name = 'PACK_TEST'");
+            List<Map<String, Object>> packages = jdbcTemplate.queryForList(PACKAGE_QUERY);
             info.put("pack_test_exists", !packages.isEmpty());
             
             Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM P_JOB_TYPE", Integer.class);
@@ -0,0 +1,46 @@
+package com.example.job_type_service.controller;
+
+import com.example.job_type_service.repository.DatabaseCallMetrics;
+import com.example.job_type_service.repository.JpaStatementCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Records how many database round trips each API request made: procedure and direct JDBC calls
+ * from {@link DatabaseCallMetrics} plus statements Hibernate prepared, both counted on the
+ * request thread.
+ */
+@Component
+public class DatabaseRoundTripFilter extends OncePerRequestFilter {
+
+    private final DatabaseCallMetrics databaseCallMetrics;
+    private final JpaStatementCounter statementCounter;
+
+    public DatabaseRoundTripFilter(DatabaseCallMetrics databaseCallMetrics, JpaStatementCounter statementCounter) {
+        this.databaseCallMetrics = databaseCallMetrics;
+        this.statementCounter = statementCounter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().substring(request.getContextPath().length()).startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long calls = databaseCallMetrics.mark();
+        long statements = statementCounter.mark();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            databaseCallMetrics.recordRequest(databaseCallMetrics.callsSince(calls) + statementCounter.statementsSince(statements));
+        }
+    }
+}
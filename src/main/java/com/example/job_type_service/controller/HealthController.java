@@ -4,7 +4,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.example.job_type_service.service.DatabaseInitializationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -23,14 +26,27 @@ public class HealthController {
     @Autowired
     private DataSource dataSource;
 
+    @Autowired
+    private DatabaseInitializationService databaseInitializationService;
+
     @GetMapping("/health")
     @Operation(summary = "Health check", description = "Checks the health status of the service and database connection")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Health check completed successfully"),
-            @ApiResponse(responseCode = "500", description = "Service or database connection issues")
+            @ApiResponse(responseCode = "500", description = "Service or database connection issues"),
+            @ApiResponse(responseCode = "503", description = "Database schema not initialized yet")
     })
-    public Map<String, Object> health() {
+    public ResponseEntity<Map<String, Object>> health() {
         Map<String, Object> response = new HashMap<>();
+
+        if (!databaseInitializationService.isReady()) {
+            response.put("status", "NOT_READY");
+            response.put("schema", databaseInitializationService.getState());
+            if (databaseInitializationService.getLastError() != null) {
+                response.put("error", databaseInitializationService.getLastError());
+            }
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+        }
         
         try {
             try (Connection connection = dataSource.getConnection()) {
@@ -43,6 +59,6 @@ public class HealthController {
             response.put("error", e.getMessage());
         }
         
-        return response;
+        return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,77 @@
+package com.example.job_type_service.controller;
+
+import com.example.job_type_service.dto.JobTypeCollectionStats;
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.exception.JobTypeVersionConflictException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Strong validators for job type responses. An item's tag is its row {@code VERSION}, which
+ * {@code If-Match} hands back to versioned writes; rows without one, and collections, fall back to
+ * timestamps truncated to microseconds, the precision of the {@code UPDATE_DATE} column, so a row
+ * read back from Oracle produces the same tag as the instance that was just written.
+ */
+final class JobTypeETags {
+
+    private JobTypeETags() {
+    }
+
+    private static final Pattern ITEM_VERSION = Pattern.compile("(\\d+)-v(\\d+)");
+
+    static String forItem(JobTypeResponse response) {
+        if (response.getVersion() != null) {
+            return "\"" + response.getPJobTypeId() + "-v" + response.getVersion() + "\"";
+        }
+        return "\"" + response.getPJobTypeId() + "-" + Long.toHexString(epochMicros(response.getUpdateDate())) + "\"";
+    }
+
+    static String forCollection(JobTypeCollectionStats stats) {
+        return "\"c" + stats.count() + "-" + Long.toHexString(epochMicros(stats.maxUpdateDate())) + "\"";
+    }
+
+    /**
+     * The version an {@code If-Match} header requires job type {@code id} to be at, or
+     * {@code null} when there is no precondition ({@code *} only requires the row to exist).
+     * Tags for other items, weak tags and unversioned tags can never match, so they fail with
+     * {@link JobTypeVersionConflictException}.
+     */
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/") || tag.length() < 2) {
+                continue;
+            }
+            String value = tag.substring(1, tag.length() - 1);
+            if (value.endsWith("-gzip")) {
+                value = value.substring(0, value.length() - "-gzip".length());
+            }
+            Matcher matcher = ITEM_VERSION.matcher(value);
+            if (matcher.matches() && matcher.group(1).equals(String.valueOf(id))) {
+                return Long.valueOf(matcher.group(2));
+            }
+        }
+        throw new JobTypeVersionConflictException("If-Match does not name a version of job type with ID " + id);
+    }
+
+    static long lastModified(LocalDateTime updateDate) {
+        if (updateDate == null) {
+            return -1;
+        }
+        return updateDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static long epochMicros(LocalDateTime updateDate) {
+        if (updateDate == null) {
+            return 0;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.of(1970, 1, 1, 0, 0), updateDate);
+    }
+}
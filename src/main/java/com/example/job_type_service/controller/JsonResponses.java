@@ -0,0 +1,86 @@
+package com.example.job_type_service.controller;
+
+import com.example.job_type_service.cache.EncodedJson;
+import com.example.job_type_service.cache.JobTypeJsonCache;
+import com.example.job_type_service.dto.JobTypeCollectionStats;
+import com.example.job_type_service.dto.JobTypeResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Writes job type GET responses from {@link JobTypeJsonCache} bytes, answering conditional
+ * requests before anything is loaded or encoded. Gzip and identity bodies are different
+ * representations, so the gzip one carries its own ETag.
+ */
+final class JsonResponses {
+
+    private JsonResponses() {
+    }
+
+    static ResponseEntity<byte[]> item(JobTypeJsonCache jsonCache, JobTypeResponse response, WebRequest webRequest) {
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String baseETag = JobTypeETags.forItem(response);
+        String eTag = representationETag(baseETag, gzip);
+        long lastModified = JobTypeETags.lastModified(response.getUpdateDate());
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return notModified(eTag);
+        }
+        return ok(jsonCache.item(baseETag, response), eTag, lastModified, gzip);
+    }
+
+    static ResponseEntity<byte[]> collection(JobTypeJsonCache jsonCache, String name, JobTypeCollectionStats stats,
+                                             Supplier<List<JobTypeResponse>> loader, WebRequest webRequest) {
+        boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String baseETag = JobTypeETags.forCollection(stats);
+        String eTag = representationETag(baseETag, gzip);
+        long lastModified = JobTypeETags.lastModified(stats.maxUpdateDate());
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return notModified(eTag);
+        }
+        return ok(jsonCache.collection(name, baseETag, loader), eTag, lastModified, gzip);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static String representationETag(String baseETag, boolean gzip) {
+        return gzip ? baseETag.substring(0, baseETag.length() - 1) + "-gzip\"" : baseETag;
+    }
+
+    private static ResponseEntity<byte[]> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    private static ResponseEntity<byte[]> ok(EncodedJson body, String eTag, long lastModified, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return builder.body(body.json());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.job_type_service.controller;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/slo}: whether {@code /api/job-types} and {@code /api/v2/job-types} meet the
+ * latency target, with per-handler breach counts and percentiles.
+ */
+@Component
+@Endpoint(id = "slo")
+public class LatencySloEndpoint {
+
+    private final LatencySloTracker latencySloTracker;
+
+    public LatencySloEndpoint(LatencySloTracker latencySloTracker) {
+        this.latencySloTracker = latencySloTracker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        return latencySloTracker.report();
+    }
+}
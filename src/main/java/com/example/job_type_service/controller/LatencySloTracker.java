@@ -0,0 +1,189 @@
+package com.example.job_type_service.controller;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts requests and SLO breaches per handler (method, URI template, status) from the same
+ * observations that feed {@code http.server.requests}, as {@code jobtype.http.requests} and
+ * {@code jobtype.http.slo.breaches}. Counting is two {@link LongAdder} increments per request.
+ * A stack meets the target when at most {@code 1 - percentile} of its requests breached it, which
+ * is exact, unlike merging per-handler percentiles. {@link #report()} adds the p50/p90/p99/p999
+ * that Micrometer's windowed HdrHistogram keeps for {@code http.server.requests}.
+ */
+@Component
+public class LatencySloTracker implements ObservationHandler<ServerRequestObservationContext>, MeterBinder {
+
+    private static final String START_NANOS = LatencySloTracker.class.getName() + ".start";
+
+    private final long targetNanos;
+    private final double percentile;
+    private final Map<HandlerKey, Counts> counts = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    record HandlerKey(String method, String uri, String status) {
+
+        String stack() {
+            if (uri.startsWith("/api/v2/job-types")) {
+                return "/api/v2/job-types";
+            }
+            if (uri.startsWith("/api/job-types")) {
+                return "/api/job-types";
+            }
+            return "other";
+        }
+    }
+
+    private record Counts(LongAdder requests, LongAdder breaches) {
+    }
+
+    public LatencySloTracker(@Value("${job-type.slo.latency:20ms}") Duration target,
+                             @Value("${job-type.slo.percentile:0.99}") double percentile) {
+        this.targetNanos = target.toNanos();
+        this.percentile = percentile;
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ServerRequestObservationContext;
+    }
+
+    @Override
+    public void onStart(ServerRequestObservationContext context) {
+        context.put(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void onStop(ServerRequestObservationContext context) {
+        Long start = context.get(START_NANOS);
+        if (start == null) {
+            return;
+        }
+        String uri = context.getPathPattern();
+        HandlerKey key = new HandlerKey(context.getCarrier().getMethod(), uri == null ? "UNKNOWN" : uri,
+                context.getResponse() == null ? "UNKNOWN" : String.valueOf(context.getResponse().getStatus()));
+        record(key, System.nanoTime() - start);
+    }
+
+    void record(HandlerKey key, long elapsedNanos) {
+        Counts handler = counts.computeIfAbsent(key, this::register);
+        handler.requests().increment();
+        if (elapsedNanos > targetNanos) {
+            handler.breaches().increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        counts.forEach((key, handler) -> bind(registry, key, handler));
+    }
+
+    /**
+     * Per-stack compliance with the latency target, then every handler with its counts and the
+     * percentiles of its {@code http.server.requests} timer.
+     */
+    public Map<String, Object> report() {
+        Map<String, long[]> stacks = new LinkedHashMap<>();
+        List<Map<String, Object>> handlers = new ArrayList<>();
+        List<Map.Entry<HandlerKey, Counts>> entries = new ArrayList<>(counts.entrySet());
+        entries.sort(Comparator.comparing((Map.Entry<HandlerKey, Counts> entry) -> entry.getKey().uri())
+                .thenComparing(entry -> entry.getKey().method())
+                .thenComparing(entry -> entry.getKey().status()));
+        for (Map.Entry<HandlerKey, Counts> entry : entries) {
+            HandlerKey key = entry.getKey();
+            long requests = entry.getValue().requests().sum();
+            long breaches = entry.getValue().breaches().sum();
+            long[] stack = stacks.computeIfAbsent(key.stack(), name -> new long[2]);
+            stack[0] += requests;
+            stack[1] += breaches;
+
+            Map<String, Object> handler = new LinkedHashMap<>();
+            handler.put("method", key.method());
+            handler.put("uri", key.uri());
+            handler.put("status", key.status());
+            handler.put("requests", requests);
+            handler.put("breaches", breaches);
+            handler.put("meetsTarget", meetsTarget(requests, breaches));
+            handler.put("percentilesMs", percentiles(key));
+            handlers.add(handler);
+        }
+
+        Map<String, Object> stackReport = new LinkedHashMap<>();
+        stacks.forEach((name, totals) -> {
+            Map<String, Object> stack = new LinkedHashMap<>();
+            stack.put("requests", totals[0]);
+            stack.put("breaches", totals[1]);
+            stack.put("breachRatio", totals[0] == 0 ? 0.0 : (double) totals[1] / totals[0]);
+            stack.put("meetsTarget", meetsTarget(totals[0], totals[1]));
+            stackReport.put(name, stack);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("targetMs", TimeUnit.NANOSECONDS.toMillis(targetNanos));
+        report.put("percentile", percentile);
+        report.put("stacks", stackReport);
+        report.put("handlers", handlers);
+        return report;
+    }
+
+    private boolean meetsTarget(long requests, long breaches) {
+        return breaches <= (1.0 - percentile) * requests;
+    }
+
+    private Map<String, Double> percentiles(HandlerKey key) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        MeterRegistry meterRegistry = registry;
+        Timer timer = meterRegistry == null ? null : meterRegistry.find("http.server.requests")
+                .tags("method", key.method(), "uri", key.uri(), "status", key.status())
+                .timer();
+        if (timer == null) {
+            return values;
+        }
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            String label = BigDecimal.valueOf(value.percentile()).movePointRight(2).stripTrailingZeros().toPlainString();
+            values.put("p" + label.replace(".", ""), value.value(TimeUnit.MILLISECONDS));
+        }
+        return values;
+    }
+
+    private Counts register(HandlerKey key) {
+        Counts handler = new Counts(new LongAdder(), new LongAdder());
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry != null) {
+            bind(meterRegistry, key, handler);
+        }
+        return handler;
+    }
+
+    private void bind(MeterRegistry registry, HandlerKey key, Counts handler) {
+        String[] tags = {"method", key.method(), "uri", key.uri(), "status", key.status(), "stack", key.stack()};
+        FunctionCounter.builder("jobtype.http.requests", handler.requests(), LongAdder::sum)
+                .tags(tags)
+                .description("API requests, counted alongside the latency SLO")
+                .register(registry);
+        FunctionCounter.builder("jobtype.http.slo.breaches", handler.breaches(), LongAdder::sum)
+                .tags(tags)
+                .description("API requests slower than job-type.slo.latency")
+                .register(registry);
+    }
+}
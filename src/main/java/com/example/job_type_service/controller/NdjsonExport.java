@@ -0,0 +1,40 @@
+package com.example.job_type_service.controller;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.function.ThrowingConsumer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes an export as newline-delimited JSON while the service is still reading rows. Rows are
+ * not flushed one by one; bytes reach the socket whenever the output buffer fills, so a client
+ * that has gone away fails the next write, which unwinds the export and closes the cursor.
+ */
+final class NdjsonExport {
+
+    private NdjsonExport() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> response(ObjectMapper objectMapper,
+                                                          ToLongFunction<ThrowingConsumer<JobTypeResponse>> exporter) {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out)) {
+                exporter.applyAsLong(writer::write);
+                writer.flush();
+                out.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
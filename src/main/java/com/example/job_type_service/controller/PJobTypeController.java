@@ -1,9 +1,14 @@
 package com.example.job_type_service.controller;
 
+import com.example.job_type_service.cache.JobTypeJsonCache;
+import com.example.job_type_service.dto.JobTypeBulkInsertRequest;
+import com.example.job_type_service.dto.JobTypeBulkInsertResponse;
+import com.example.job_type_service.dto.JobTypePage;
 import com.example.job_type_service.dto.JobTypeRequest;
 import com.example.job_type_service.dto.JobTypeResponse;
 import com.example.job_type_service.dto.UpdateJobTypeRequest;
 import com.example.job_type_service.service.PJobTypeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,9 +17,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
@@ -27,6 +35,12 @@ public class PJobTypeController {
     @Autowired
     private PJobTypeService pJobTypeService;
 
+    @Autowired
+    private JobTypeJsonCache jobTypeJsonCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Operation(summary = "Create a new job type", description = "Creates a new job type with the provided information")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Job type created successfully",
@@ -41,48 +55,68 @@ public class PJobTypeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "Create many job types", description = "Inserts a batch of job types in one call and reports the outcome per row")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; rejected rows carry an error",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobTypeBulkInsertResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<JobTypeBulkInsertResponse> bulkCreateJobTypes(
+            @Parameter(description = "Job types to insert", required = true)
+            @Valid @RequestBody JobTypeBulkInsertRequest request) {
+        return ResponseEntity.ok(pJobTypeService.bulkInsertJobTypes(request.getItems()));
+    }
+
     @Operation(summary = "Update an existing job type", description = "Updates an existing job type with the provided information")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job type updated successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobTypeResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
-            @ApiResponse(responseCode = "404", description = "Job type not found")
+            @ApiResponse(responseCode = "404", description = "Job type not found"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not name the current version")
     })
     @PutMapping("/{id}")
     public ResponseEntity<JobTypeResponse> updateJobType(
             @Parameter(description = "Job type ID", required = true, example = "1")
             @PathVariable Long id,
+            @Parameter(description = "ETag of the version being replaced", example = "\"1-v3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Updated job type information", required = true)
             @Valid @RequestBody UpdateJobTypeRequest request) {
-        JobTypeResponse response = pJobTypeService.updateJobType(id, request);
-        return ResponseEntity.ok(response);
+        JobTypeResponse response = pJobTypeService.updateJobType(id, request, JobTypeETags.expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(JobTypeETags.forItem(response)).body(response);
     }
 
     @Operation(summary = "Get job type by ID", description = "Retrieves a specific job type by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job type found",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Job type not modified since the supplied ETag or date"),
             @ApiResponse(responseCode = "404", description = "Job type not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<JobTypeResponse> getJobType(
+    public ResponseEntity<byte[]> getJobType(
             @Parameter(description = "Job type ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id, WebRequest webRequest) {
         JobTypeResponse response = pJobTypeService.getJobTypeById(id);
-        return ResponseEntity.ok(response);
+        return JsonResponses.item(jobTypeJsonCache, response, webRequest);
     }
 
     @Operation(summary = "Delete a job type", description = "Deletes a job type by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Job type deleted successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid request")
+            @ApiResponse(responseCode = "400", description = "Invalid request"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not name the current version")
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteJobType(
             @Parameter(description = "Job type ID", required = true, example = "1")
-            @PathVariable Long id) {
-        pJobTypeService.deleteJobType(id);
+            @PathVariable Long id,
+            @Parameter(description = "ETag of the version being deleted", example = "\"1-v3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        pJobTypeService.deleteJobType(id, JobTypeETags.expectedVersion(id, ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -90,26 +124,57 @@ public class PJobTypeController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job types retrieved successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Collection not modified since the supplied ETag or date"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<java.util.List<JobTypeResponse>> getAllJobTypes() {
-        java.util.List<JobTypeResponse> response = pJobTypeService.getAllJobTypes();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getAllJobTypes(WebRequest webRequest) {
+        return JsonResponses.collection(jobTypeJsonCache, "v1", pJobTypeService.getCollectionStats(),
+                pJobTypeService::getAllJobTypes, webRequest);
     }
 
     @Operation(summary = "Get job type by code", description = "Retrieves a specific job type by its code")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job type found",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Job type not modified since the supplied ETag or date"),
             @ApiResponse(responseCode = "404", description = "Job type not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/code/{code}")
-    public ResponseEntity<JobTypeResponse> getJobTypeByCode(
+    public ResponseEntity<byte[]> getJobTypeByCode(
             @Parameter(description = "Job type code", required = true, example = "FULL_TIME")
-            @PathVariable String code) {
+            @PathVariable String code, WebRequest webRequest) {
         JobTypeResponse response = pJobTypeService.getJobTypeByCode(code);
-        return ResponseEntity.ok(response);
+        return JsonResponses.item(jobTypeJsonCache, response, webRequest);
     }
+
+    @Operation(summary = "Get a page of job types",
+            description = "Retrieves job types in keyset order; pass the returned nextCursor to fetch the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = JobTypePage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, size or sort"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<JobTypePage> getJobTypePage(
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by job-type.page.max-size", example = "50") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Sort key: id or code", example = "id") @RequestParam(defaultValue = "id") String sort) {
+        return ResponseEntity.ok(pJobTypeService.getJobTypePage(cursor, size, sort));
+    }
+
+    @Operation(summary = "Export all job types",
+            description = "Streams every job type as newline-delimited JSON while rows are read from the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportJobTypes() {
+        return NdjsonExport.response(objectMapper, pJobTypeService::exportJobTypes);
+    }
+
 }
@@ -1,9 +1,16 @@
 package com.example.job_type_service.controller;
 
+import com.example.job_type_service.cache.JobTypeJsonCache;
+import com.example.job_type_service.dto.JobTypeBatchGetRequest;
+import com.example.job_type_service.dto.JobTypeBatchGetResponse;
+import com.example.job_type_service.dto.JobTypeBulkDeleteRequest;
+import com.example.job_type_service.dto.JobTypeBulkDeleteResponse;
+import com.example.job_type_service.dto.JobTypePage;
 import com.example.job_type_service.dto.JobTypeRequest;
 import com.example.job_type_service.dto.JobTypeResponse;
 import com.example.job_type_service.dto.UpdateJobTypeRequest;
 import com.example.job_type_service.service.PJobTypeJpaService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,9 +20,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,6 +37,12 @@ public class PJobTypeJpaController {
     @Autowired
     private PJobTypeJpaService jobTypeJpaService;
 
+    @Autowired
+    private JobTypeJsonCache jobTypeJsonCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     @Operation(summary = "Create a new job type", description = "Creates a new job type with the provided details")
     @ApiResponses(value = {
@@ -49,13 +65,16 @@ public class PJobTypeJpaController {
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "404", description = "Job type not found"),
             @ApiResponse(responseCode = "409", description = "Job type with this code already exists"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not name the current version"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<JobTypeResponse> updateJobType(
             @Parameter(description = "Job type ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the version being replaced")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateJobTypeRequest request) {
-        JobTypeResponse response = jobTypeJpaService.updateJobType(id, request);
-        return ResponseEntity.ok(response);
+        JobTypeResponse response = jobTypeJpaService.updateJobType(id, request, JobTypeETags.expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(JobTypeETags.forItem(response)).body(response);
     }
 
     @GetMapping("/{id}")
@@ -63,13 +82,14 @@ public class PJobTypeJpaController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job type found",
                     content = @Content(schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Job type not modified since the supplied ETag or date"),
             @ApiResponse(responseCode = "404", description = "Job type not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<JobTypeResponse> getJobTypeById(
-            @Parameter(description = "Job type ID") @PathVariable Long id) {
+    public ResponseEntity<byte[]> getJobTypeById(
+            @Parameter(description = "Job type ID") @PathVariable Long id, WebRequest webRequest) {
         JobTypeResponse response = jobTypeJpaService.getJobTypeById(id);
-        return ResponseEntity.ok(response);
+        return JsonResponses.item(jobTypeJsonCache, response, webRequest);
     }
 
     @GetMapping("/code/{code}")
@@ -77,13 +97,54 @@ public class PJobTypeJpaController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job type found",
                     content = @Content(schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Job type not modified since the supplied ETag or date"),
             @ApiResponse(responseCode = "404", description = "Job type not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<JobTypeResponse> getJobTypeByCode(
-            @Parameter(description = "Job type code") @PathVariable String code) {
+    public ResponseEntity<byte[]> getJobTypeByCode(
+            @Parameter(description = "Job type code") @PathVariable String code, WebRequest webRequest) {
         JobTypeResponse response = jobTypeJpaService.getJobTypeByCode(code);
-        return ResponseEntity.ok(response);
+        return JsonResponses.item(jobTypeJsonCache, response, webRequest);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search job types", description = "Case-insensitive substring search over code and description, best matches first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching job types, ranked",
+                    content = @Content(schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Blank query or invalid limit"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<JobTypeResponse>> searchJobTypes(
+            @Parameter(description = "Text to look for in code or description") @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of results") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobTypeJpaService.searchJobTypes(query, limit));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest job type codes", description = "Case-insensitive code prefix lookup for typeahead, in code order")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job types whose code starts with the prefix",
+                    content = @Content(schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Prefix too long or invalid limit"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<List<JobTypeResponse>> suggestJobTypes(
+            @Parameter(description = "Start of the code; empty lists the first codes") @RequestParam(required = false, defaultValue = "") String prefix,
+            @Parameter(description = "Maximum number of results") @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(jobTypeJpaService.suggestJobTypes(prefix, limit));
+    }
+
+    @PostMapping("/batch-get")
+    @Operation(summary = "Get many job types", description = "Resolves a list of IDs and/or codes in one call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed; unknown keys are listed as missing",
+                    content = @Content(schema = @Schema(implementation = JobTypeBatchGetResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<JobTypeBatchGetResponse> batchGetJobTypes(@Valid @RequestBody JobTypeBatchGetRequest request) {
+        return ResponseEntity.ok(jobTypeJpaService.batchGetJobTypes(request.getIds(), request.getCodes()));
     }
 
     @DeleteMapping("/{id}")
@@ -91,14 +152,29 @@ public class PJobTypeJpaController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Job type deleted successfully"),
             @ApiResponse(responseCode = "404", description = "Job type not found"),
+            @ApiResponse(responseCode = "412", description = "If-Match does not name the current version"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<Void> deleteJobType(
-            @Parameter(description = "Job type ID") @PathVariable Long id) {
-        jobTypeJpaService.deleteJobType(id);
+            @Parameter(description = "Job type ID") @PathVariable Long id,
+            @Parameter(description = "ETag of the version being deleted")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        jobTypeJpaService.deleteJobType(id, JobTypeETags.expectedVersion(id, ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/bulk-delete")
+    @Operation(summary = "Delete many job types", description = "Deletes a list of IDs and/or codes in one transaction")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Delete completed; keys that matched nothing are ignored",
+                    content = @Content(schema = @Schema(implementation = JobTypeBulkDeleteResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<JobTypeBulkDeleteResponse> bulkDeleteJobTypes(@Valid @RequestBody JobTypeBulkDeleteRequest request) {
+        return ResponseEntity.ok(jobTypeJpaService.bulkDeleteJobTypes(request.getIds(), request.getCodes()));
+    }
+
     @DeleteMapping("/code/{code}")
     @Operation(summary = "Delete job type by code", description = "Deletes a job type by its code")
     @ApiResponses(value = {
@@ -117,11 +193,40 @@ public class PJobTypeJpaController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Job types retrieved successfully",
                     content = @Content(schema = @Schema(implementation = JobTypeResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Collection not modified since the supplied ETag or date"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<byte[]> getAllJobTypes(WebRequest webRequest) {
+        return JsonResponses.collection(jobTypeJsonCache, "v2", jobTypeJpaService.getCollectionStats(),
+                jobTypeJpaService::getAllJobTypes, webRequest);
+    }
+
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of job types",
+            description = "Retrieves job types in keyset order; pass the returned nextCursor to fetch the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = JobTypePage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, size or sort"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public ResponseEntity<JobTypePage> getJobTypePage(
+            @Parameter(description = "Continuation token from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, capped by job-type.page.max-size", example = "50") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Sort key: id or code", example = "id") @RequestParam(defaultValue = "id") String sort) {
+        return ResponseEntity.ok(jobTypeJpaService.getJobTypePage(cursor, size, sort));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @Operation(summary = "Export all job types",
+            description = "Streams every job type as newline-delimited JSON while rows are read from the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed successfully",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = JobTypeResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<List<JobTypeResponse>> getAllJobTypes() {
-        List<JobTypeResponse> responses = jobTypeJpaService.getAllJobTypes();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<StreamingResponseBody> exportJobTypes() {
+        return NdjsonExport.response(objectMapper, jobTypeJpaService::exportJobTypes);
     }
 
 }
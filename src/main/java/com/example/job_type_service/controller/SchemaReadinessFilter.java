@@ -0,0 +1,57 @@
+package com.example.job_type_service.controller;
+
+import com.example.job_type_service.dto.ErrorResponse;
+import com.example.job_type_service.service.DatabaseInitializationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Answers 503 for the job type API while the schema is still being initialized, instead of
+ * letting requests fail on missing tables or an uncompiled {@code PACK_TEST}. {@code /api/health}
+ * reports readiness itself.
+ */
+@Component
+public class SchemaReadinessFilter extends OncePerRequestFilter {
+
+    static final String RETRY_AFTER_SECONDS = "5";
+
+    private final DatabaseInitializationService databaseInitializationService;
+    private final ObjectMapper objectMapper;
+
+    public SchemaReadinessFilter(DatabaseInitializationService databaseInitializationService, ObjectMapper objectMapper) {
+        this.databaseInitializationService = databaseInitializationService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/") || path.equals("/api/health");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (databaseInitializationService.isReady()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service is starting: database schema is not ready",
+                request.getRequestURI()));
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.job_type_service.controller;
+
+import com.example.job_type_service.repository.RequestTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Adds a {@code Server-Timing} header with the {@link RequestTimings} breakdown to API responses
+ * when {@code job-type.server-timing.enabled} is set. The body is buffered so the header can
+ * still be written after serialization has been timed; NDJSON exports stream and are skipped.
+ */
+@Component
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final RequestTimings requestTimings;
+
+    public ServerTimingFilter(RequestTimings requestTimings) {
+        this.requestTimings = requestTimings;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !requestTimings.isEnabled() || !path.startsWith("/api/") || path.endsWith("/export");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        requestTimings.begin();
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            String timing = requestTimings.end();
+            if (timing != null) {
+                buffered.setHeader(SERVER_TIMING, timing);
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.job_type_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Request object for resolving many job types by ID and/or code")
+public class JobTypeBatchGetRequest {
+
+    @Schema(description = "Job type IDs to resolve", example = "[1, 2, 3]")
+    @Size(max = 5000, message = "At most 5000 IDs can be requested at once")
+    private List<Long> ids = new ArrayList<>();
+
+    @Schema(description = "Job type codes to resolve", example = "[\"FULL_TIME\", \"PART_TIME\"]")
+    @Size(max = 5000, message = "At most 5000 codes can be requested at once")
+    private List<String> codes = new ArrayList<>();
+
+    public JobTypeBatchGetRequest() {}
+
+    public JobTypeBatchGetRequest(List<Long> ids, List<String> codes) {
+        this.ids = ids;
+        this.codes = codes;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getCodes() {
+        return codes;
+    }
+
+    public void setCodes(List<String> codes) {
+        this.codes = codes;
+    }
+}
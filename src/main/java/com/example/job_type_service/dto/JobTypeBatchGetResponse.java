@@ -0,0 +1,17 @@
+package com.example.job_type_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Job types found by a batch lookup and the keys that matched nothing")
+public record JobTypeBatchGetResponse(
+        @Schema(description = "Job types found, each listed once even if requested by both ID and code")
+        List<JobTypeResponse> items,
+
+        @Schema(description = "Requested IDs with no matching job type")
+        List<Long> missingIds,
+
+        @Schema(description = "Requested codes with no matching job type")
+        List<String> missingCodes) {
+}
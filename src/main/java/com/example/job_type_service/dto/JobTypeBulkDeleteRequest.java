@@ -0,0 +1,42 @@
+package com.example.job_type_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Request object for deleting many job types by ID and/or code")
+public class JobTypeBulkDeleteRequest {
+
+    @Schema(description = "Job type IDs to delete", example = "[1, 2, 3]")
+    @Size(max = 10000, message = "At most 10000 IDs can be deleted at once")
+    private List<Long> ids = new ArrayList<>();
+
+    @Schema(description = "Job type codes to delete", example = "[\"OBSOLETE_A\", \"OBSOLETE_B\"]")
+    @Size(max = 10000, message = "At most 10000 codes can be deleted at once")
+    private List<String> codes = new ArrayList<>();
+
+    public JobTypeBulkDeleteRequest() {}
+
+    public JobTypeBulkDeleteRequest(List<Long> ids, List<String> codes) {
+        this.ids = ids;
+        this.codes = codes;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<String> getCodes() {
+        return codes;
+    }
+
+    public void setCodes(List<String> codes) {
+        this.codes = codes;
+    }
+}
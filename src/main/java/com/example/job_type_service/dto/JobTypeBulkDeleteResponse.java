@@ -0,0 +1,12 @@
+package com.example.job_type_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a bulk delete")
+public record JobTypeBulkDeleteResponse(
+        @Schema(description = "Distinct IDs and codes in the request", example = "3")
+        int requested,
+
+        @Schema(description = "Rows actually deleted; keys that matched nothing are not counted", example = "2")
+        int deleted) {
+}
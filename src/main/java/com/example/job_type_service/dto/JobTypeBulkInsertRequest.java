@@ -0,0 +1,32 @@
+package com.example.job_type_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Request object for inserting many job types in one call")
+public class JobTypeBulkInsertRequest {
+
+    @Schema(description = "Job types to insert, in order", required = true)
+    @NotEmpty(message = "Items are required")
+    @Size(max = 1000, message = "At most 1000 job types can be inserted at once")
+    private List<@Valid JobTypeRequest> items = new ArrayList<>();
+
+    public JobTypeBulkInsertRequest() {}
+
+    public JobTypeBulkInsertRequest(List<JobTypeRequest> items) {
+        this.items = items;
+    }
+
+    public List<JobTypeRequest> getItems() {
+        return items;
+    }
+
+    public void setItems(List<JobTypeRequest> items) {
+        this.items = items;
+    }
+}
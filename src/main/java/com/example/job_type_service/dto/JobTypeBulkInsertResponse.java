@@ -0,0 +1,36 @@
+package com.example.job_type_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk insert, one result per requested row")
+public record JobTypeBulkInsertResponse(
+        @Schema(description = "Number of rows inserted", example = "2")
+        int inserted,
+
+        @Schema(description = "Number of rows rejected", example = "1")
+        int failed,
+
+        @Schema(description = "Per-row results in request order")
+        List<Result> results) {
+
+    @Schema(name = "JobTypeBulkInsertResult", description = "Outcome for a single requested row")
+    public record Result(
+            @Schema(description = "Position of the row in the request", example = "0")
+            int index,
+
+            @Schema(description = "Requested code", example = "FULL_TIME")
+            String code,
+
+            @Schema(description = "Generated ID; absent when the row was rejected", example = "1")
+            Long id,
+
+            @Schema(description = "Why the row was rejected; absent when it was inserted")
+            String error) {
+
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.job_type_service.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and latest {@code UPDATE_DATE} of the job type table; enough to tell whether the
+ * collection changed without reading it. {@code maxUpdateDate} is {@code null} for an empty table.
+ */
+public record JobTypeCollectionStats(long count, LocalDateTime maxUpdateDate) {
+}
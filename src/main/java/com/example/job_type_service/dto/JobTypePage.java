@@ -0,0 +1,14 @@
+package com.example.job_type_service.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of job types in keyset order")
+public record JobTypePage(
+        @Schema(description = "Job types on this page")
+        List<JobTypeResponse> items,
+
+        @Schema(description = "Opaque token for the next page; absent on the last page", example = "aToxMjM")
+        String nextCursor) {
+}
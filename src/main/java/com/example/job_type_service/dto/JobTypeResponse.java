@@ -21,6 +21,9 @@ public class JobTypeResponse {
     @Schema(description = "User who last updated the job type", example = "admin")
     private String updateBy;
 
+    @Schema(description = "Row version, incremented by every update; the item ETag is derived from it", example = "3")
+    private Long version;
+
     public JobTypeResponse() {}
 
     public JobTypeResponse(Long pJobTypeId, String code, String description, LocalDateTime updateDate, String updateBy) {
@@ -31,6 +34,12 @@ public class JobTypeResponse {
         this.updateBy = updateBy;
     }
 
+    public JobTypeResponse(Long pJobTypeId, String code, String description, LocalDateTime updateDate, String updateBy,
+                           Long version) {
+        this(pJobTypeId, code, description, updateDate, updateBy);
+        this.version = version;
+    }
+
     public static JobTypeResponseBuilder builder() {
         return new JobTypeResponseBuilder();
     }
@@ -41,6 +50,7 @@ public class JobTypeResponse {
         private String description;
         private LocalDateTime updateDate;
         private String updateBy;
+        private Long version;
 
         public JobTypeResponseBuilder pJobTypeId(Long pJobTypeId) {
             this.pJobTypeId = pJobTypeId;
@@ -67,8 +77,13 @@ public class JobTypeResponse {
             return this;
         }
 
+        public JobTypeResponseBuilder version(Long version) {
+            this.version = version;
+            return this;
+        }
+
         public JobTypeResponse build() {
-            return new JobTypeResponse(pJobTypeId, code, description, updateDate, updateBy);
+            return new JobTypeResponse(pJobTypeId, code, description, updateDate, updateBy, version);
         }
     }
 
@@ -111,4 +126,12 @@ public class JobTypeResponse {
     public void setUpdateBy(String updateBy) {
         this.updateBy = updateBy;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -12,7 +12,8 @@ import lombok.Builder;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "P_JOB_TYPE")
+@Table(name = "P_JOB_TYPE",
+        uniqueConstraints = @UniqueConstraint(name = "UK_P_JOB_TYPE_CODE", columnNames = "CODE"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,13 +22,13 @@ public class PJobType {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "SEQ_P_JOB_TYPE")
-    @SequenceGenerator(name = "SEQ_P_JOB_TYPE", sequenceName = "SEQ_P_JOB_TYPE", allocationSize = 1)
+    @SequenceGenerator(name = "SEQ_P_JOB_TYPE", sequenceName = "SEQ_P_JOB_TYPE", allocationSize = 50)
     @Column(name = "P_JOB_TYPE_ID")
     private Long pJobTypeId;
 
     @NotBlank(message = "Code cannot be blank")
     @Size(max = 128, message = "Code cannot exceed 128 characters")
-    @Column(name = "CODE", nullable = false, length = 128, unique = true)
+    @Column(name = "CODE", nullable = false, length = 128)
     private String code;
 
     @Size(max = 512, message = "Description cannot exceed 512 characters")
@@ -43,6 +44,14 @@ public class PJobType {
     @Column(name = "UPDATE_BY", nullable = false, length = 128)
     private String updateBy;
 
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
+    public PJobType(Long pJobTypeId, String code, String description, LocalDateTime updateDate, String updateBy) {
+        this(pJobTypeId, code, description, updateDate, updateBy, null);
+    }
+
     public Long getPJobTypeId() {
         return pJobTypeId;
     }
@@ -82,4 +91,12 @@ public class PJobType {
     public void setUpdateBy(String updateBy) {
         this.updateBy = updateBy;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,23 @@
+package com.example.job_type_service.event;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+
+/**
+ * Published by both job type services after a row has been written. {@code current} holds the
+ * persisted state for inserts and updates and is {@code null} for deletes; {@code id} or
+ * {@code code} may be {@code null} when the writer does not know it.
+ */
+public record JobTypeChangedEvent(Long id, String code, JobTypeResponse current) {
+
+    public static JobTypeChangedEvent saved(JobTypeResponse current) {
+        return new JobTypeChangedEvent(current.getPJobTypeId(), current.getCode(), current);
+    }
+
+    public static JobTypeChangedEvent deleted(Long id, String code) {
+        return new JobTypeChangedEvent(id, code, null);
+    }
+
+    public boolean isDeletion() {
+        return current == null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.job_type_service.event;
+
+import java.util.Set;
+
+/**
+ * Published once for a set-based delete, so listeners can drop every affected key in one pass
+ * instead of handling a {@link JobTypeChangedEvent} per row. Either set may contain keys that
+ * matched no row.
+ */
+public record JobTypesDeletedEvent(Set<Long> ids, Set<String> codes) {
+}
@@ -0,0 +1,14 @@
+package com.example.job_type_service.exception;
+
+/**
+ * A conditional write named a version of the job type that is no longer current.
+ */
+public class JobTypeVersionConflictException extends RuntimeException {
+    public JobTypeVersionConflictException(String message) {
+        super(message);
+    }
+
+    public JobTypeVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
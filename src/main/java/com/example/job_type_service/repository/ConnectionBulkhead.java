@@ -0,0 +1,177 @@
+package com.example.job_type_service.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the threads that may hold or wait for a pooled connection at the Hikari pool size. With
+ * virtual threads there can be thousands of concurrent requests; without the bulkhead they all
+ * park inside {@code getConnection} and time out together once the pool's wait exceeds
+ * {@code connectionTimeout}. Here they queue on a fair semaphore instead, which costs a parked
+ * virtual thread and nothing else, and a permit is handed back when the connection is closed.
+ * On by default when {@code spring.threads.virtual.enabled} is set.
+ */
+@Component
+public class ConnectionBulkhead implements BeanPostProcessor, Ordered, MeterBinder {
+
+    private final boolean enabled;
+    private final long timeoutMillis;
+
+    private volatile Semaphore permits;
+    private volatile int capacity;
+    private final LongAdder rejections = new LongAdder();
+    private volatile Timer waitTimer;
+
+    public ConnectionBulkhead(@Value("${job-type.db.bulkhead.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+                              @Value("${job-type.db.bulkhead.timeout-ms:30000}") long timeoutMillis) {
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof HikariDataSource hikari)) {
+            return bean;
+        }
+        return wrap(hikari, hikari.getMaximumPoolSize());
+    }
+
+    // Sees the HikariDataSource before any other post-processor wraps it
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Wraps {@code dataSource} so at most {@code size} connections are out at once.
+     */
+    public DataSource wrap(DataSource dataSource, int size) {
+        capacity = size;
+        permits = new Semaphore(size, true);
+        return new BulkheadDataSource(dataSource);
+    }
+
+    public int availablePermits() {
+        Semaphore current = permits;
+        return current == null ? 0 : current.availablePermits();
+    }
+
+    public int queuedThreads() {
+        Semaphore current = permits;
+        return current == null ? 0 : current.getQueueLength();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        waitTimer = Timer.builder("jobtype.db.bulkhead.wait")
+                .description("Time spent waiting for a database bulkhead permit")
+                .register(registry);
+        Gauge.builder("jobtype.db.bulkhead.available", this, ConnectionBulkhead::availablePermits)
+                .description("Free database bulkhead permits")
+                .register(registry);
+        Gauge.builder("jobtype.db.bulkhead.queued", this, ConnectionBulkhead::queuedThreads)
+                .description("Threads waiting for a database bulkhead permit")
+                .register(registry);
+        Gauge.builder("jobtype.db.bulkhead.capacity", this, bulkhead -> bulkhead.capacity)
+                .description("Database bulkhead size, equal to the connection pool size")
+                .register(registry);
+        FunctionCounter.builder("jobtype.db.bulkhead.rejections", rejections, LongAdder::sum)
+                .description("Connection requests that gave up waiting for a bulkhead permit")
+                .register(registry);
+    }
+
+    private void acquire(Semaphore semaphore) throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a database bulkhead permit", e);
+        }
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            rejections.increment();
+            throw new SQLTransientConnectionException(
+                    "No database bulkhead permit within " + timeoutMillis + " ms (" + capacity + " in use)");
+        }
+    }
+
+    private class BulkheadDataSource extends DelegatingDataSource {
+
+        BulkheadDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return guarded(() -> obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return guarded(() -> obtainTargetDataSource().getConnection(username, password));
+        }
+
+        private Connection guarded(ConnectionSupplier supplier) throws SQLException {
+            Semaphore semaphore = permits;
+            acquire(semaphore);
+            Connection connection;
+            try {
+                connection = supplier.get();
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+            return releasingOnClose(connection, semaphore);
+        }
+    }
+
+    private static Connection releasingOnClose(Connection connection, Semaphore semaphore) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(ConnectionBulkhead.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            semaphore.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
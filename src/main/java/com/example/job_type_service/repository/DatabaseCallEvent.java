@@ -0,0 +1,97 @@
+package com.example.job_type_service.repository;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * JFR event for one database call: a {@code PACK_TEST} procedure or direct JDBC query
+ * ({@code stack = sp}) or a repository method ({@code stack = jpa}). Fields are only filled in
+ * when a recording has the event enabled; otherwise {@code shouldCommit()} is false and the JIT
+ * removes the event object, so an unrecorded call costs nothing measurable.
+ */
+@Name("com.example.jobtype.DatabaseCall")
+@Label("Job Type Database Call")
+@Category("Job Type Service")
+@Description("A stored procedure, JDBC query or repository call made for a job type operation")
+@StackTrace(false)
+public class DatabaseCallEvent extends Event {
+
+    @Label("Stack")
+    String stack;
+
+    @Label("Operation")
+    @Description("Procedure or repository method")
+    String operation;
+
+    @Label("Key")
+    String key;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static <T> T record(String stack, String operation, Object key, Supplier<T> call) {
+        return record(stack, operation, key, call, DatabaseCallEvent::rowsOf);
+    }
+
+    /**
+     * Like {@link #record(String, String, Object, Supplier)}, with the caller saying how many rows
+     * a non-null result stands for.
+     */
+    public static <T> T record(String stack, String operation, Object key, Supplier<T> call,
+                               ToLongFunction<? super T> rowCount) {
+        DatabaseCallEvent event = new DatabaseCallEvent();
+        event.begin();
+        T result = null;
+        String outcome = "error";
+        try {
+            result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.stack = stack;
+                event.operation = operation;
+                event.key = key == null ? null : String.valueOf(key);
+                event.rows = result == null ? 0 : rowCount.applyAsLong(result);
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Rows a call returned or changed, as far as a collection, optional, count or flag shows it;
+     * any other non-null result counts as one row.
+     */
+    public static long rowsOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> rows) {
+            return rows.size();
+        }
+        if (result instanceof Optional<?> row) {
+            return row.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        if (result instanceof Boolean exists) {
+            return exists ? 1 : 0;
+        }
+        return 1;
+    }
+}
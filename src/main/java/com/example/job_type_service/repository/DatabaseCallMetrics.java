@@ -0,0 +1,101 @@
+package com.example.job_type_service.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Times hand-written JDBC calls, chiefly {@code PACK_TEST} procedures, as
+ * {@code jobtype.db.calls{stack,operation,outcome}} and counts them per thread the way
+ * {@link JpaStatementCounter} counts Hibernate statements, so the two together give the database
+ * round trips of one request ({@code jobtype.db.roundtrips}). Repository methods are timed by
+ * Spring Data's own {@code spring.data.repository.invocations}.
+ */
+@Component
+public class DatabaseCallMetrics implements MeterBinder {
+
+    private final ThreadLocal<long[]> perThread = ThreadLocal.withInitial(() -> new long[1]);
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+    private volatile DistributionSummary roundTrips;
+
+    private record TimerKey(String stack, String operation, String outcome) {
+    }
+
+    public <T> T record(String stack, String operation, Object key, Supplier<T> call) {
+        return record(stack, operation, key, call, DatabaseCallEvent::rowsOf);
+    }
+
+    /**
+     * Times {@code call} and emits a {@link DatabaseCallEvent} that carries {@code key} and the
+     * rows {@code rowCount} reads from the result.
+     */
+    public <T> T record(String stack, String operation, Object key, Supplier<T> call,
+                        ToLongFunction<? super T> rowCount) {
+        perThread.get()[0]++;
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return DatabaseCallEvent.record(stack, operation, key, call, rowCount);
+        }
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = DatabaseCallEvent.record(stack, operation, key, call, rowCount);
+            outcome = "success";
+            return result;
+        } finally {
+            timer(meterRegistry, stack, operation, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // Registered once per tag combination; a call only looks its timer up
+    private Timer timer(MeterRegistry meterRegistry, String stack, String operation, String outcome) {
+        TimerKey key = new TimerKey(stack, operation, outcome);
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(key, k -> Timer.builder("jobtype.db.calls")
+                    .tag("stack", stack)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .description("Time taken by stored procedure calls and other direct JDBC calls")
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+
+    /**
+     * Calls made so far on the calling thread; pass it back to {@link #callsSince}.
+     */
+    public long mark() {
+        return perThread.get()[0];
+    }
+
+    public long callsSince(long mark) {
+        return perThread.get()[0] - mark;
+    }
+
+    public void recordRequest(long roundTripCount) {
+        DistributionSummary summary = roundTrips;
+        if (summary != null) {
+            summary.record(roundTripCount);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        timers.clear();
+        this.registry = registry;
+        this.roundTrips = DistributionSummary.builder("jobtype.db.roundtrips")
+                .description("Database round trips (procedure calls plus Hibernate statements) per API request")
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
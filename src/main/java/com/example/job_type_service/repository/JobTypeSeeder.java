@@ -0,0 +1,101 @@
+package com.example.job_type_service.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills an empty {@code P_JOB_TYPE} with {@code rows} synthetic job types for the {@code offline}
+ * profile: IDs {@code 1..rows}, codes like {@code EXPORT_0000042} spread over a handful of
+ * prefixes so prefix and trigram lookups have realistic fan-out, descriptions padded to
+ * {@code descriptionLength}, and update dates one minute apart ending now. The sequence is then
+ * moved past the seeded IDs. A table that already has rows is left alone.
+ */
+public class JobTypeSeeder {
+
+    private static final String[] PREFIXES = {"BATCH", "EXPORT", "IMPORT", "REPORT", "SYNC", "CLEANUP", "NOTIFY", "AUDIT"};
+    private static final String[] WORDS = {"nightly", "hourly", "ledger", "invoice", "customer", "archive", "partner",
+            "payment", "inventory", "retry", "snapshot", "reconcile"};
+    private static final String[] USERS = {"admin", "scheduler", "etl", "ops"};
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_DESCRIPTION_LENGTH = 512;
+
+    private final int rows;
+    private final int descriptionLength;
+
+    public JobTypeSeeder(int rows, int descriptionLength) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("job-type.offline.seed.rows must not be negative");
+        }
+        this.rows = rows;
+        this.descriptionLength = Math.max(0, Math.min(descriptionLength, MAX_DESCRIPTION_LENGTH));
+    }
+
+    public void seed(Connection connection) throws SQLException {
+        if (rows == 0 || !isEmpty(connection)) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            LocalDateTime newest = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO P_JOB_TYPE "
+                    + "(P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION) VALUES (?, ?, ?, ?, ?, 0)")) {
+                for (int i = 1; i <= rows; i++) {
+                    ps.setLong(1, i);
+                    ps.setString(2, code(i));
+                    ps.setString(3, description(i));
+                    ps.setTimestamp(4, Timestamp.valueOf(newest.minusMinutes(rows - i)));
+                    ps.setString(5, USERS[i % USERS.length]);
+                    ps.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                        connection.commit();
+                    }
+                }
+                ps.executeBatch();
+            }
+            // pooled-lo: the next NEXTVAL reserves [rows + 1, rows + 1 + block size)
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER SEQUENCE SEQ_P_JOB_TYPE RESTART WITH " + (rows + 1));
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        System.out.println("Seeded " + rows + " synthetic job types in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+
+    static String code(int i) {
+        return PREFIXES[i % PREFIXES.length] + "_" + String.format("%07d", i);
+    }
+
+    private String description(int i) {
+        StringBuilder description = new StringBuilder(descriptionLength + 16);
+        description.append("Job type ").append(i);
+        int word = i;
+        while (description.length() < descriptionLength) {
+            description.append(' ').append(WORDS[word++ % WORDS.length]);
+        }
+        description.setLength(descriptionLength);
+        return description.toString();
+    }
+
+    private static boolean isEmpty(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM P_JOB_TYPE WHERE ROWNUM = 1")) {
+            return rs.next() && rs.getLong(1) == 0;
+        }
+    }
+}
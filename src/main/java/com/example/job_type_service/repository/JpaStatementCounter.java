@@ -0,0 +1,95 @@
+package com.example.job_type_service.repository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the SQL statements Hibernate prepares, overall by statement kind and per thread, so a
+ * service can record how many round trips one logical write cost
+ * ({@code jobtype.jpa.write.statements}).
+ */
+@Component
+public class JpaStatementCounter implements StatementInspector, HibernatePropertiesCustomizer, MeterBinder {
+
+    private static final String[] KINDS = {"select", "insert", "update", "delete", "other"};
+
+    private final ThreadLocal<long[]> perThread = ThreadLocal.withInitial(() -> new long[1]);
+    private final Map<String, LongAdder> byKind = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> writeSummaries = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public JpaStatementCounter() {
+        for (String kind : KINDS) {
+            byKind.put(kind, new LongAdder());
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        perThread.get()[0]++;
+        byKind.get(kindOf(sql)).increment();
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    /**
+     * Statements prepared so far on the calling thread; pass it back to {@link #recordWrite}.
+     */
+    public long mark() {
+        return perThread.get()[0];
+    }
+
+    public long statementsSince(long mark) {
+        return perThread.get()[0] - mark;
+    }
+
+    public void recordWrite(String operation, long mark) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return;
+        }
+        writeSummaries.computeIfAbsent(operation, op -> DistributionSummary.builder("jobtype.jpa.write.statements")
+                        .tag("operation", op)
+                        .description("SQL statements issued per job type write")
+                        .register(meterRegistry))
+                .record(statementsSince(mark));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+        byKind.forEach((kind, count) -> FunctionCounter.builder("jobtype.jpa.statements", count, LongAdder::sum)
+                .tag("kind", kind)
+                .description("SQL statements prepared by Hibernate")
+                .register(registry));
+    }
+
+    private static String kindOf(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String verb = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (verb) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete" -> verb;
+            default -> "other";
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.job_type_service.repository;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+
+import java.util.stream.Stream;
+
+public interface PJobTypeExportRepository {
+
+    /**
+     * Streams every job type in ID order straight from a forward-only result set. Must be
+     * consumed inside a transaction and closed afterwards.
+     */
+    Stream<JobTypeResponse> streamAllForExport();
+}
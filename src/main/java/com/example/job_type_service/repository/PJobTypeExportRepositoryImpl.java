@@ -0,0 +1,31 @@
+package com.example.job_type_service.repository;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.stream.Stream;
+
+class PJobTypeExportRepositoryImpl implements PJobTypeExportRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${job-type.export.fetch-size:500}")
+    private int fetchSize;
+
+    // Constructor projection keeps rows out of the persistence context, so memory does not grow
+    // with the table; the fetch size bounds how many rows the driver buffers per round trip.
+    @Override
+    public Stream<JobTypeResponse> streamAllForExport() {
+        return entityManager.createQuery(
+                        "SELECT new com.example.job_type_service.dto.JobTypeResponse(" +
+                                "j.pJobTypeId, j.code, j.description, j.updateDate, j.updateBy, j.version) " +
+                                "FROM PJobType j ORDER BY j.pJobTypeId", JobTypeResponse.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,24 +1,35 @@
 package com.example.job_type_service.repository;
 
+import com.example.job_type_service.dto.JobTypeCollectionStats;
 import com.example.job_type_service.entity.PJobType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.query.Procedure;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PJobTypeRepository extends JpaRepository<PJobType, Long> {
+public interface PJobTypeRepository extends JpaRepository<PJobType, Long>, PJobTypeExportRepository {
 
     @Procedure(name = "update_job_type")
     @Query("SELECT COUNT(j) > 0 FROM PJobType j WHERE j.code = :code")
     boolean existsByCode(@Param("code") String code);
 
-    @Query("SELECT j FROM PJobType j WHERE LOWER(j.description) LIKE LOWER('%' || :description || '%')")
-    List<PJobType> findByDescriptionContainingIgnoreCase(@Param("description") String description);
+    // Fallback for searchJobTypes when the catalog (and its trigram index) is disabled
+    @Query("SELECT j FROM PJobType j WHERE LOWER(j.code) LIKE LOWER('%' || :query || '%') " +
+            "OR LOWER(j.description) LIKE LOWER('%' || :query || '%') ORDER BY j.code")
+    List<PJobType> searchByCodeOrDescription(@Param("query") String query, Limit limit);
+
+    // Fallback for suggestJobTypes when the catalog (and its code index) is disabled; the caller
+    // lower-cases the prefix and escapes LIKE wildcards with '!'
+    @Query("SELECT j FROM PJobType j WHERE LOWER(j.code) LIKE :pattern ESCAPE '!' ORDER BY LOWER(j.code), j.pJobTypeId")
+    List<PJobType> findByCodePrefix(@Param("pattern") String pattern, Limit limit);
 
     List<PJobType> findByUpdateBy(String updateBy);
     List<PJobType> findByUpdateDateAfter(java.time.LocalDateTime updateDate);
@@ -31,8 +42,61 @@ public interface PJobTypeRepository extends JpaRepository<PJobType, Long> {
     @Query("SELECT j FROM PJobType j ORDER BY j.code ASC")
     List<PJobType> findAllOrderByCodeAsc();
 
+    @Query("SELECT new com.example.job_type_service.dto.JobTypeCollectionStats(COUNT(j), MAX(j.updateDate)) FROM PJobType j")
+    JobTypeCollectionStats findCollectionStats();
+
+    @Query("SELECT j FROM PJobType j ORDER BY j.pJobTypeId")
+    List<PJobType> findPageById(Limit limit);
+
+    @Query("SELECT j FROM PJobType j WHERE j.pJobTypeId > :afterId ORDER BY j.pJobTypeId")
+    List<PJobType> findPageByIdAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT j FROM PJobType j ORDER BY j.code, j.pJobTypeId")
+    List<PJobType> findPageByCode(Limit limit);
+
+    @Query("SELECT j FROM PJobType j WHERE j.code > :afterCode OR (j.code = :afterCode AND j.pJobTypeId > :afterId) " +
+            "ORDER BY j.code, j.pJobTypeId")
+    List<PJobType> findPageByCodeAfter(@Param("afterCode") String afterCode, @Param("afterId") Long afterId, Limit limit);
+
     Optional<PJobType> findByCode(String code);
 
+    // expectedVersion null updates whatever version is current
+    @Modifying
+    @Query("UPDATE PJobType j SET j.code = :code, j.description = :description, j.updateDate = :updateDate, " +
+            "j.updateBy = :updateBy, j.version = j.version + 1 " +
+            "WHERE j.pJobTypeId = :id AND (:expectedVersion IS NULL OR j.version = :expectedVersion)")
+    int updateJobType(@Param("id") Long id, @Param("expectedVersion") Long expectedVersion,
+                      @Param("code") String code, @Param("description") String description,
+                      @Param("updateDate") java.time.LocalDateTime updateDate, @Param("updateBy") String updateBy);
+
+    @Query("SELECT j.version FROM PJobType j WHERE j.pJobTypeId = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Set-based deletes: one DELETE statement, the row count tells whether anything matched
+    @Modifying
+    @Query("DELETE FROM PJobType j WHERE j.pJobTypeId = :id")
+    int deleteJobTypeById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM PJobType j WHERE j.pJobTypeId IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM PJobType j WHERE j.code IN :codes")
+    int deleteAllByCodeIn(@Param("codes") Collection<String> codes);
+
+    @Modifying
+    @Query("DELETE FROM PJobType j WHERE j.pJobTypeId = :id AND j.version = :expectedVersion")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("expectedVersion") Long expectedVersion);
+
+    @Query("SELECT j FROM PJobType j WHERE j.pJobTypeId IN :ids")
+    List<PJobType> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    List<PJobType> findAllByCodeIn(Collection<String> codes);
+
     long countByUpdateBy(String updateBy);
-    void deleteByCode(String code);
+
+    @Modifying
+    @Query("DELETE FROM PJobType j WHERE j.code = :code")
+    int deleteByCode(@Param("code") String code);
 }
@@ -0,0 +1,334 @@
+package com.example.job_type_service.repository;
+
+import com.example.job_type_service.controller.DatabaseController;
+import com.example.job_type_service.service.JobTypeIdAllocator;
+import com.example.job_type_service.service.SchemaMigrationRunner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.BatchUpdateException;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Stands in for Oracle when the {@code offline} profile points the service at H2 in Oracle mode.
+ * Connections are wrapped so that {@code { call PACK_TEST.x(...) }} runs {@link PackTestProcedures}
+ * instead of reaching H2, the package scripts compile to nothing (the body installs the
+ * {@link JobTypeSeeder} data instead), and the few Oracle-only statements issued outside
+ * {@code PACK_TEST} are swapped for H2 equivalents. Every other statement, including everything
+ * Hibernate sends, goes to H2 unchanged.
+ */
+@Component
+@Profile("offline")
+public class PackTestEmulator implements BeanPostProcessor, Ordered {
+
+    private static final String PACKAGE_PREFIX = "PACK_TEST.";
+
+    // Keyed by the constants the senders use, so a query edited there is still translated. The
+    // emulated package always compiles cleanly.
+    private static final Map<String, String> TRANSLATIONS = Map.of(
+            JobTypeIdAllocator.NEXT_BLOCKS_QUERY,
+            "SELECT SEQ_P_JOB_TYPE.NEXTVAL FROM SYSTEM_RANGE(1, ?)",
+            JobTypeIdAllocator.INCREMENT_QUERY,
+            "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_SCHEMA = SCHEMA() AND SEQUENCE_NAME = 'SEQ_P_JOB_TYPE'",
+            DatabaseController.VERSION_QUERY,
+            "SELECT 'H2 ' || H2VERSION() || ' (Oracle mode, PACK_TEST emulated)' FROM DUAL",
+            DatabaseController.TABLE_QUERY,
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = SCHEMA() AND TABLE_NAME = 'P_JOB_TYPE'",
+            DatabaseController.SEQUENCE_QUERY,
+            "SELECT SEQUENCE_NAME FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_SCHEMA = SCHEMA() AND SEQUENCE_NAME = 'SEQ_P_JOB_TYPE'",
+            DatabaseController.PACKAGE_QUERY,
+            "SELECT 'PACK_TEST' AS OBJECT_NAME FROM DUAL",
+            SchemaMigrationRunner.PACKAGE_STATUS_QUERY,
+            "SELECT 'VALID' AS STATUS FROM DUAL WHERE CAST(? AS VARCHAR(32)) IS NOT NULL",
+            SchemaMigrationRunner.PACKAGE_ERRORS_QUERY,
+            "SELECT CAST(? AS VARCHAR(32)) FROM DUAL WHERE 1 = 0");
+
+    // H2 error codes that SchemaMigrationRunner needs to see as their Oracle counterpart: table not
+    // found (ORA-00942), for the missing history table and an empty schema
+    private static final Map<Integer, String> ORACLE_ERRORS = Map.of(
+            42102, "ORA-00942: table or view does not exist",
+            42103, "ORA-00942: table or view does not exist",
+            42104, "ORA-00942: table or view does not exist");
+
+    private final JobTypeSeeder seeder;
+
+    // Read from the Environment: as a post-processor this bean is created before @Value
+    // placeholders can be resolved
+    @Autowired
+    public PackTestEmulator(Environment environment) {
+        this(new JobTypeSeeder(environment.getProperty("job-type.offline.seed.rows", Integer.class, 10000),
+                environment.getProperty("job-type.offline.seed.description-length", Integer.class, 64)));
+    }
+
+    public PackTestEmulator(JobTypeSeeder seeder) {
+        this.seeder = seeder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return wrap(dataSource);
+    }
+
+    // After ConnectionBulkhead, which needs the HikariDataSource itself, and inside RequestTimings
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    public DataSource wrap(DataSource dataSource) {
+        return new EmulatedDataSource(dataSource);
+    }
+
+    static String translate(String sql) {
+        return TRANSLATIONS.getOrDefault(sql, sql);
+    }
+
+    private class EmulatedDataSource extends DelegatingDataSource {
+
+        EmulatedDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return emulating(obtainTargetDataSource().getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return emulating(obtainTargetDataSource().getConnection(username, password));
+        }
+    }
+
+    private Connection emulating(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(PackTestEmulator.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "prepareCall" -> {
+                            String sql = (String) args[0];
+                            if (sql.contains(PACKAGE_PREFIX)) {
+                                return EmulatedCall.prepare(connection, (Connection) proxy, sql);
+                            }
+                        }
+                        case "prepareStatement" -> args[0] = translate((String) args[0]);
+                        case "createStatement" -> {
+                            return emulating(connection, (Statement) invoke(connection, method, args));
+                        }
+                        default -> {
+                        }
+                    }
+                    return invoke(connection, method, args);
+                });
+    }
+
+    // Plain statements carry the schema scripts (JdbcTemplate.execute) and DatabaseController's
+    // dictionary queries
+    private Statement emulating(Connection connection, Statement statement) {
+        return (Statement) Proxy.newProxyInstance(PackTestEmulator.class.getClassLoader(),
+                new Class<?>[]{Statement.class}, (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute") && args != null && args[0] instanceof String sql) {
+                        String ddl = sql.stripLeading().toUpperCase(Locale.ROOT);
+                        if (ddl.startsWith("CREATE OR REPLACE PACKAGE BODY PACK_TEST")) {
+                            seeder.seed(connection);
+                            return method.getReturnType() == boolean.class ? false : 0;
+                        }
+                        if (ddl.startsWith("CREATE OR REPLACE PACKAGE PACK_TEST")) {
+                            return method.getReturnType() == boolean.class ? false : 0;
+                        }
+                        args[0] = translate(sql);
+                        try {
+                            return invoke(statement, method, args);
+                        } catch (SQLException e) {
+                            throw oracleError(e);
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static SQLException oracleError(SQLException e) {
+        String message = ORACLE_ERRORS.get(e.getErrorCode());
+        if (message == null) {
+            return e;
+        }
+        int code = Integer.parseInt(message.substring(4, message.indexOf(':')));
+        return new SQLException(message, e.getSQLState(), code, e);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * One {@code PACK_TEST} call: parameters are collected into a 1-based array, the procedure
+     * runs on the real connection (so it joins the caller's transaction) and OUT values are read
+     * back from the same array. Ref cursors stay open until the statement is closed.
+     */
+    private static final class EmulatedCall implements InvocationHandler {
+
+        private final Connection connection;
+        private final Connection owner;
+        private final String name;
+        private final PackTestProcedures.Procedure procedure;
+        private final Object[] params;
+        private final List<Object[]> batch = new ArrayList<>();
+        private final List<Statement> cursors = new ArrayList<>();
+        private boolean wasNull;
+        private boolean closed;
+
+        private EmulatedCall(Connection connection, Connection owner, String name,
+                             PackTestProcedures.Procedure procedure, int parameterCount) {
+            this.connection = connection;
+            this.owner = owner;
+            this.name = name;
+            this.procedure = procedure;
+            this.params = new Object[parameterCount + 1];
+        }
+
+        static CallableStatement prepare(Connection connection, Connection owner, String sql) throws SQLException {
+            int start = sql.indexOf(PACKAGE_PREFIX) + PACKAGE_PREFIX.length();
+            int end = sql.indexOf('(', start);
+            String name = (end < 0 ? sql.substring(start) : sql.substring(start, end)).trim().toLowerCase(Locale.ROOT);
+            PackTestProcedures.Procedure procedure = PackTestProcedures.PROCEDURES.get(name);
+            if (procedure == null) {
+                throw new SQLException("ORA-06550: PLS-00302: component '" + name.toUpperCase(Locale.ROOT)
+                        + "' must be declared", "65000", 6550);
+            }
+            int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+            return (CallableStatement) Proxy.newProxyInstance(PackTestEmulator.class.getClassLoader(),
+                    new Class<?>[]{CallableStatement.class},
+                    new EmulatedCall(connection, owner, name, procedure, parameterCount));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if (methodName.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                params[index] = methodName.equals("setNull") ? null : args[1];
+                return null;
+            }
+            if (methodName.startsWith("get") && args != null && args.length == 1 && args[0] instanceof Integer index) {
+                Object value = params[index];
+                wasNull = value == null;
+                return switch (methodName) {
+                    case "getObject" -> value;
+                    case "getString" -> value == null ? null : value.toString();
+                    case "getLong" -> value == null ? 0L : ((Number) value).longValue();
+                    case "getInt" -> value == null ? 0 : ((Number) value).intValue();
+                    case "getBigDecimal" -> value == null ? null : new BigDecimal(value.toString());
+                    case "getTimestamp" -> value instanceof LocalDateTime dateTime ? Timestamp.valueOf(dateTime) : value;
+                    default -> throw notEmulated(methodName);
+                };
+            }
+            return switch (methodName) {
+                case "registerOutParameter", "setFetchSize", "setMaxRows", "setQueryTimeout", "setEscapeProcessing",
+                     "setPoolable", "clearWarnings", "getWarnings", "getResultSet" -> null;
+                case "execute", "executeUpdate" -> {
+                    procedure.call(connection, params, cursors::add);
+                    yield methodName.equals("execute") ? false : 0;
+                }
+                case "addBatch" -> {
+                    batch.add(params.clone());
+                    yield null;
+                }
+                case "clearBatch" -> {
+                    batch.clear();
+                    yield null;
+                }
+                case "clearParameters" -> {
+                    Arrays.fill(params, null);
+                    yield null;
+                }
+                case "executeBatch" -> executeBatch();
+                case "wasNull" -> wasNull;
+                case "getUpdateCount" -> -1;
+                case "getMoreResults" -> false;
+                case "getConnection" -> owner;
+                case "isClosed" -> closed;
+                case "close" -> {
+                    close();
+                    yield null;
+                }
+                case "isWrapperFor" -> ((Class<?>) args[0]).isInstance(proxy);
+                case "unwrap" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        yield proxy;
+                    }
+                    throw new SQLException("Not a wrapper for " + args[0]);
+                }
+                case "toString" -> "PACK_TEST." + name + " (emulated)";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw notEmulated(methodName);
+            };
+        }
+
+        // Stops at the first failing row and reports the rows before it, as the Oracle driver does
+        private int[] executeBatch() throws SQLException {
+            int[] counts = new int[batch.size()];
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    try {
+                        procedure.call(connection, batch.get(i), cursors::add);
+                    } catch (SQLException e) {
+                        throw new BatchUpdateException(e.getMessage(), e.getSQLState(), e.getErrorCode(),
+                                Arrays.copyOf(counts, i), e);
+                    }
+                    counts[i] = 1;
+                }
+                return counts;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        private void close() throws SQLException {
+            closed = true;
+            SQLException failure = null;
+            for (Statement cursor : cursors) {
+                try {
+                    cursor.close();
+                } catch (SQLException e) {
+                    failure = e;
+                }
+            }
+            cursors.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        private SQLFeatureNotSupportedException notEmulated(String methodName) {
+            return new SQLFeatureNotSupportedException(methodName + " is not emulated for PACK_TEST." + name);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.job_type_service.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Java versions of the {@code PACK_TEST} procedures in {@code create_package_body.sql}, written
+ * against H2. Each one takes the call's parameters as a 1-based array and writes its OUT values
+ * back into it, so a ref cursor is an open {@link ResultSet} and {@code RAISE_APPLICATION_ERROR}
+ * is an {@link SQLException} with the Oracle error code. The statements that produce a cursor are
+ * handed to {@code cursors} so the caller can close them with the call.
+ */
+final class PackTestProcedures {
+
+    private static final String COLUMNS = "P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION";
+    private static final String WRITTEN_ROW = "CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION";
+
+    @FunctionalInterface
+    interface Procedure {
+        void call(Connection connection, Object[] params, Cursors cursors) throws SQLException;
+    }
+
+    @FunctionalInterface
+    interface Cursors {
+        void opened(Statement statement);
+    }
+
+    static final Map<String, Procedure> PROCEDURES = Map.ofEntries(
+            Map.entry("insert_job_type", PackTestProcedures::insertJobType),
+            Map.entry("insert_job_type_ret", PackTestProcedures::insertJobTypeRet),
+            Map.entry("update_job_type", PackTestProcedures::updateJobType),
+            Map.entry("update_job_type_ret", PackTestProcedures::updateJobTypeRet),
+            Map.entry("view_job_type", PackTestProcedures::viewJobType),
+            Map.entry("delete_job_type", PackTestProcedures::deleteJobType),
+            Map.entry("get_all_job_types", PackTestProcedures::getAllJobTypes),
+            Map.entry("get_job_types_page", PackTestProcedures::getJobTypesPage),
+            Map.entry("get_job_types_page_by_code", PackTestProcedures::getJobTypesPageByCode),
+            Map.entry("get_job_type_by_code", PackTestProcedures::getJobTypeByCode));
+
+    private PackTestProcedures() {
+    }
+
+    private static void insertJobType(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO P_JOB_TYPE "
+                + "(P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY) VALUES (?, ?, ?, SYSTIMESTAMP, ?)")) {
+            bind(ps, params[1], params[2], params[3], params[4]);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            throw uniqueViolation(e);
+        }
+    }
+
+    private static void insertJobTypeRet(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT " + WRITTEN_ROW + " FROM FINAL TABLE ("
+                + "INSERT INTO P_JOB_TYPE (P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY) "
+                + "VALUES (?, ?, ?, SYSTIMESTAMP, ?))")) {
+            bind(ps, params[1], params[2], params[3], params[4]);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                readInto(rs, params, 5);
+            }
+        } catch (SQLException e) {
+            throw uniqueViolation(e);
+        }
+    }
+
+    private static void updateJobType(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("UPDATE P_JOB_TYPE SET CODE = ?, DESCRIPTION = ?, "
+                + "UPDATE_DATE = SYSTIMESTAMP, UPDATE_BY = ?, VERSION = VERSION + 1 WHERE P_JOB_TYPE_ID = ?")) {
+            bind(ps, params[2], params[3], params[4], params[1]);
+            if (ps.executeUpdate() == 0) {
+                throw applicationError(20001, "Data dengan ID " + params[1] + " tidak ditemukan.");
+            }
+        } catch (SQLException e) {
+            throw uniqueViolation(e);
+        }
+    }
+
+    // p_version is IN OUT: the expected version goes in, the new version comes out
+    private static void updateJobTypeRet(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        Object expectedVersion = params[9];
+        String sql = "SELECT " + WRITTEN_ROW + " FROM FINAL TABLE (UPDATE P_JOB_TYPE SET CODE = ?, DESCRIPTION = ?, "
+                + "UPDATE_DATE = SYSTIMESTAMP, UPDATE_BY = ?, VERSION = VERSION + 1 WHERE P_JOB_TYPE_ID = ?"
+                + (expectedVersion == null ? ")" : " AND VERSION = ?)");
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            bind(ps, params[2], params[3], params[4], params[1]);
+            if (expectedVersion != null) {
+                ps.setObject(5, expectedVersion);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    throw missingOrStale(connection, params[1], expectedVersion, 20001);
+                }
+                readInto(rs, params, 5);
+            }
+        } catch (SQLException e) {
+            throw uniqueViolation(e);
+        }
+    }
+
+    private static void viewJobType(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT " + WRITTEN_ROW + " FROM P_JOB_TYPE WHERE P_JOB_TYPE_ID = ?")) {
+            ps.setObject(1, params[1]);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    readInto(rs, params, 2);
+                }
+            }
+        }
+    }
+
+    private static void deleteJobType(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        Object expectedVersion = params.length > 2 ? params[2] : null;
+        try (PreparedStatement ps = connection.prepareStatement("DELETE FROM P_JOB_TYPE WHERE P_JOB_TYPE_ID = ?"
+                + (expectedVersion == null ? "" : " AND VERSION = ?"))) {
+            bind(ps, params[1]);
+            if (expectedVersion != null) {
+                ps.setObject(2, expectedVersion);
+            }
+            if (ps.executeUpdate() == 0) {
+                throw missingOrStale(connection, params[1], expectedVersion, 20002);
+            }
+        }
+    }
+
+    private static void getAllJobTypes(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        params[1] = open(connection, cursors, "SELECT " + COLUMNS + " FROM P_JOB_TYPE ORDER BY P_JOB_TYPE_ID");
+    }
+
+    private static void getJobTypesPage(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        params[3] = params[1] == null
+                ? open(connection, cursors, "SELECT " + COLUMNS + " FROM P_JOB_TYPE "
+                        + "ORDER BY P_JOB_TYPE_ID FETCH FIRST ? ROWS ONLY", params[2])
+                : open(connection, cursors, "SELECT " + COLUMNS + " FROM P_JOB_TYPE WHERE P_JOB_TYPE_ID > ? "
+                        + "ORDER BY P_JOB_TYPE_ID FETCH FIRST ? ROWS ONLY", params[1], params[2]);
+    }
+
+    private static void getJobTypesPageByCode(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        params[4] = params[1] == null
+                ? open(connection, cursors, "SELECT " + COLUMNS + " FROM P_JOB_TYPE "
+                        + "ORDER BY CODE, P_JOB_TYPE_ID FETCH FIRST ? ROWS ONLY", params[3])
+                : open(connection, cursors, "SELECT " + COLUMNS + " FROM P_JOB_TYPE "
+                        + "WHERE CODE > ? OR (CODE = ? AND P_JOB_TYPE_ID > ?) "
+                        + "ORDER BY CODE, P_JOB_TYPE_ID FETCH FIRST ? ROWS ONLY",
+                        params[1], params[1], params[2], params[3]);
+    }
+
+    private static void getJobTypeByCode(Connection connection, Object[] params, Cursors cursors) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT P_JOB_TYPE_ID, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION FROM P_JOB_TYPE WHERE CODE = ?")) {
+            ps.setObject(1, params[1]);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next()) {
+                    readInto(rs, params, 2);
+                }
+            }
+        }
+    }
+
+    // raise_missing_or_stale: -20003 if the row exists at another version, else the not-found error
+    private static SQLException missingOrStale(Connection connection, Object id, Object expectedVersion,
+                                               int notFoundError) throws SQLException {
+        if (expectedVersion != null) {
+            try (PreparedStatement ps = connection.prepareStatement("SELECT COUNT(*) FROM P_JOB_TYPE WHERE P_JOB_TYPE_ID = ?")) {
+                ps.setObject(1, id);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    if (rs.getLong(1) > 0) {
+                        return applicationError(20003, "Data dengan ID " + id + " sudah diubah (versi " + expectedVersion + ").");
+                    }
+                }
+            }
+        }
+        return applicationError(notFoundError, "Data dengan ID " + id + " tidak ditemukan.");
+    }
+
+    private static SQLException applicationError(int code, String message) {
+        return new SQLException("ORA-" + code + ": " + message, "72000", code);
+    }
+
+    // H2 reports a unique violation as 23505 naming the index; callers look for ORA-00001 naming the
+    // constraint. P_JOB_TYPE has two: the UK_P_JOB_TYPE_CODE index and the primary key.
+    private static SQLException uniqueViolation(SQLException e) {
+        if (e.getErrorCode() != 23505) {
+            return e;
+        }
+        String message = e.getMessage() == null ? "" : e.getMessage().toUpperCase(Locale.ROOT);
+        String constraint = message.contains("UK_P_JOB_TYPE_CODE") ? "UK_P_JOB_TYPE_CODE" : "PK_P_JOB_TYPE";
+        return new SQLException("ORA-00001: unique constraint (" + constraint + ") violated", "23000", 1, e);
+    }
+
+    private static ResultSet open(Connection connection, Cursors cursors, String sql, Object... values) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement(sql);
+        cursors.opened(ps);
+        bind(ps, values);
+        return ps.executeQuery();
+    }
+
+    private static void bind(PreparedStatement ps, Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            ps.setObject(i + 1, values[i]);
+        }
+    }
+
+    private static void readInto(ResultSet rs, Object[] params, int firstOut) throws SQLException {
+        int columns = rs.getMetaData().getColumnCount();
+        for (int column = 1; column <= columns; column++) {
+            params[firstOut + column - 1] = rs.getObject(column);
+        }
+    }
+}
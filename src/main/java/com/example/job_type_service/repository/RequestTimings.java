@@ -0,0 +1,200 @@
+package com.example.job_type_service.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Breaks one request's time down into pool wait, database, mapping and serialization for the
+ * {@code Server-Timing} header, with cache flags alongside. Each phase is exclusive of the phases
+ * timed inside it, so a {@code db} block that waited for a connection reports the wait as
+ * {@code pool-wait} only. State is a thread-local array of longs that exists between
+ * {@link #begin()} and {@link #end()}; with {@code job-type.server-timing.enabled} off nothing is
+ * recorded and the pool is not wrapped.
+ */
+@Component
+public class RequestTimings implements BeanPostProcessor, Ordered {
+
+    public static final String CACHE = "cache";
+    public static final String JSON_CACHE = "json-cache";
+
+    private final boolean enabled;
+    private final ThreadLocal<Recording> current = new ThreadLocal<>();
+
+    public enum Phase {
+        POOL_WAIT("pool-wait"),
+        DB("db"),
+        MAPPING("mapping"),
+        SERIALIZATION("serialization");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final class Recording {
+        private final long start = System.nanoTime();
+        private final long[] nanos = new long[Phase.values().length];
+        private long recorded;
+        private long serializationStart;
+        private Map<String, String> flags;
+
+        private void add(Phase phase, long elapsed) {
+            nanos[phase.ordinal()] += elapsed;
+            recorded += elapsed;
+        }
+    }
+
+    // Read from the Environment: as a post-processor this bean is created before @Value
+    // placeholders can be resolved
+    @Autowired
+    public RequestTimings(Environment environment) {
+        this(environment.getProperty("job-type.server-timing.enabled", Boolean.class, false));
+    }
+
+    public RequestTimings(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts recording on the calling thread; {@link #end()} must follow on the same thread.
+     */
+    public void begin() {
+        if (enabled) {
+            current.set(new Recording());
+        }
+    }
+
+    /**
+     * Stops recording and returns the {@code Server-Timing} value, or {@code null} if nothing was
+     * being recorded on this thread.
+     */
+    public String end() {
+        Recording recording = current.get();
+        if (recording == null) {
+            return null;
+        }
+        current.remove();
+        long now = System.nanoTime();
+        if (recording.serializationStart != 0) {
+            recording.add(Phase.SERIALIZATION, now - recording.serializationStart);
+        }
+        StringBuilder header = new StringBuilder(160);
+        for (Phase phase : Phase.values()) {
+            appendDuration(header, phase.metricName, recording.nanos[phase.ordinal()]);
+        }
+        if (recording.flags != null) {
+            recording.flags.forEach((name, value) -> header.append(", ").append(name).append(";desc=").append(value));
+        }
+        appendDuration(header, "total", now - recording.start);
+        return header.toString();
+    }
+
+    public <T> T time(Phase phase, Supplier<T> work) {
+        Recording recording = enabled ? current.get() : null;
+        if (recording == null) {
+            return work.get();
+        }
+        long start = System.nanoTime();
+        long nestedBefore = recording.recorded;
+        try {
+            return work.get();
+        } finally {
+            long nested = recording.recorded - nestedBefore;
+            recording.add(phase, System.nanoTime() - start - nested);
+        }
+    }
+
+    /**
+     * Marks the point the response body starts being written; the rest of the request counts as
+     * serialization.
+     */
+    public void serializationStarted() {
+        Recording recording = enabled ? current.get() : null;
+        if (recording != null && recording.serializationStart == 0) {
+            recording.serializationStart = System.nanoTime();
+        }
+    }
+
+    public void flag(String name, String value) {
+        Recording recording = enabled ? current.get() : null;
+        if (recording != null) {
+            if (recording.flags == null) {
+                recording.flags = new LinkedHashMap<>();
+            }
+            recording.flags.put(name, value);
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+        return new TimedDataSource(dataSource);
+    }
+
+    // After ConnectionBulkhead, so a wait for a bulkhead permit counts as pool wait
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    private static void appendDuration(StringBuilder header, String name, long nanos) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(Math.round(nanos / 1000.0) / 1000.0);
+    }
+
+    private class TimedDataSource extends DelegatingDataSource {
+
+        TimedDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Recording recording = current.get();
+            if (recording == null) {
+                return obtainTargetDataSource().getConnection();
+            }
+            long start = System.nanoTime();
+            try {
+                return obtainTargetDataSource().getConnection();
+            } finally {
+                recording.add(Phase.POOL_WAIT, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            Recording recording = current.get();
+            if (recording == null) {
+                return obtainTargetDataSource().getConnection(username, password);
+            }
+            long start = System.nanoTime();
+            try {
+                return obtainTargetDataSource().getConnection(username, password);
+            } finally {
+                recording.add(Phase.POOL_WAIT, System.nanoTime() - start);
+            }
+        }
+    }
+}
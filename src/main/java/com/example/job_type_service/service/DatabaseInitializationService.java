@@ -1,59 +1,111 @@
 package com.example.job_type_service.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Brings the schema up to date on a background thread so the context and web server start
+ * without waiting on DDL. Until a run succeeds the service is not ready: {@link SchemaHealthIndicator}
+ * holds the readiness probe down and the API answers 503. Failed runs are retried every
+ * {@code job-type.schema.retry-interval-ms}.
+ */
 @Service
 public class DatabaseInitializationService {
 
+    // Applied in this order; append new scripts rather than reordering. A schema change goes into
+    // create_table.sql (the target schema) and into a new upgrade script appended after the others
+    static final List<SchemaMigrationRunner.Script> SCRIPTS = List.of(
+            SchemaMigrationRunner.Script.create("sql/create_table.sql", "P_JOB_TYPE"),
+            SchemaMigrationRunner.Script.upgrade("sql/upgrade_update_date_index.sql"),
+            SchemaMigrationRunner.Script.upgrade("sql/upgrade_sequence_block_size.sql"),
+            SchemaMigrationRunner.Script.upgrade("sql/upgrade_version_column.sql"),
+            SchemaMigrationRunner.Script.repeatable("sql/create_package.sql"),
+            SchemaMigrationRunner.Script.repeatable("sql/create_package_body.sql"));
+
+    public enum State { PENDING, READY, FAILED }
+
+    @Autowired
+    private SchemaMigrationRunner schemaMigrationRunner;
+
     @Autowired
-    private JdbcTemplate jdbcTemplate;
+    private JobTypeIdAllocator jobTypeIdAllocator;
+
+    // 0 disables retries
+    @Value("${job-type.schema.retry-interval-ms:15000}")
+    private long retryIntervalMs;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "schema-init");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile State state = State.PENDING;
+    private volatile String lastError;
 
     @PostConstruct
+    public void startInitialization() {
+        executor.execute(this::initializeDatabase);
+    }
+
     public void initializeDatabase() {
         try {
-            executeSqlScript("sql/create_table.sql");
-            
-            executeSqlScript("sql/create_package.sql");
-            
-            executeSqlScript("sql/create_package_body.sql");
-            
-            System.out.println("Database initialization completed successfully!");
-            
+            List<SchemaMigrationRunner.MigrationResult> report = schemaMigrationRunner.migrate(SCRIPTS);
+            long applied = report.stream()
+                    .filter(result -> result.outcome() == SchemaMigrationRunner.Outcome.APPLIED)
+                    .count();
+            SchemaMigrationRunner.MigrationResult failed = report.stream()
+                    .filter(result -> result.outcome() == SchemaMigrationRunner.Outcome.FAILED)
+                    .findFirst()
+                    .orElse(null);
+            if (failed != null) {
+                fail("Script " + failed.script() + " failed");
+                return;
+            }
+            // A sequence that does not match the ID block size would make inserts collide
+            jobTypeIdAllocator.verifySequence();
+
+            lastError = null;
+            state = State.READY;
+            System.out.println("Database initialization completed successfully! (" + applied + " of "
+                    + SCRIPTS.size() + " scripts applied)");
+
         } catch (Exception e) {
-            System.err.println("Error during database initialization: " + e.getMessage());
+            fail(e.getMessage());
         }
     }
 
-    private void executeSqlScript(String scriptPath) throws IOException {
-        ClassPathResource resource = new ClassPathResource(scriptPath);
-        String sql = Files.readString(resource.getFile().toPath(), StandardCharsets.UTF_8);
+    public State getState() {
+        return state;
+    }
 
-        if (scriptPath.contains("package")) {
-            try {
-                jdbcTemplate.execute(sql);
-            } catch (Exception e) {
-                System.out.println("Package execution warning: " + e.getMessage());
-            }
-        } else {
-            String[] statements = sql.split(";");
-            for (String statement : statements) {
-                String trimmedStatement = statement.trim();
-                if (!trimmedStatement.isEmpty()) {
-                    try {
-                        jdbcTemplate.execute(trimmedStatement);
-                    } catch (Exception e) {
-                        System.out.println("Statement execution warning: " + e.getMessage());
-                    }
-                }
-            }
+    public boolean isReady() {
+        return state == State.READY;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void fail(String message) {
+        lastError = message;
+        state = State.FAILED;
+        System.err.println("Error during database initialization: " + message);
+        if (retryIntervalMs > 0 && !executor.isShutdown()) {
+            executor.schedule(this::initializeDatabase, retryIntervalMs, TimeUnit.MILLISECONDS);
         }
     }
 }
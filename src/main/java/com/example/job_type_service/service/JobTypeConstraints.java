@@ -0,0 +1,33 @@
+package com.example.job_type_service.service;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Tells a clash on {@code UK_P_JOB_TYPE_CODE} apart from the other integrity errors a write can
+ * hit. A primary key collision is also ORA-00001, and value-too-large (ORA-12899) or NOT NULL
+ * (ORA-01400) errors are data integrity violations too; none of them mean the code is taken.
+ */
+final class JobTypeConstraints {
+
+    static final String UNIQUE_CODE = "UK_P_JOB_TYPE_CODE";
+
+    private JobTypeConstraints() {
+    }
+
+    /**
+     * True if {@code failure} or one of its causes is a unique violation (ORA-00001, or SQLSTATE
+     * 23505 on H2) naming {@link #UNIQUE_CODE}.
+     */
+    static boolean isDuplicateCode(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == 1 || "23505".equals(sqlException.getSQLState()))
+                    && sqlException.getMessage() != null
+                    && sqlException.getMessage().toUpperCase(Locale.ROOT).contains(UNIQUE_CODE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
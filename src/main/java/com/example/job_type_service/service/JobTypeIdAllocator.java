@@ -0,0 +1,173 @@
+package com.example.job_type_service.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out {@code P_JOB_TYPE_ID} values from blocks reserved on {@code SEQ_P_JOB_TYPE}. The
+ * sequence increments by the block size and each {@code NEXTVAL} {@code v} reserves
+ * {@code [v, v + blockSize)} for this node, the same "pooled-lo" convention Hibernate uses for
+ * {@code PJobType}, so both stacks and any number of instances draw disjoint IDs from one sequence.
+ * {@code job-type.id.block-size} must equal the sequence {@code INCREMENT BY}. Guarded by a
+ * {@link ReentrantLock} because a block fetch happens under the lock and a monitor would pin a
+ * virtual thread's carrier for the length of that query.
+ */
+@Component
+public class JobTypeIdAllocator implements MeterBinder {
+
+    // Public so the offline profile's PackTestEmulator can translate these Oracle-only queries
+    public static final String INCREMENT_QUERY =
+            "SELECT INCREMENT_BY FROM USER_SEQUENCES WHERE SEQUENCE_NAME = 'SEQ_P_JOB_TYPE'";
+    public static final String NEXT_BLOCKS_QUERY =
+            "SELECT SEQ_P_JOB_TYPE.NEXTVAL FROM dual CONNECT BY LEVEL <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int blockSize;
+
+    private long next;
+    private long end;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean sequenceVerified;
+
+    private final LongAdder blockFetches = new LongAdder();
+    private final LongAdder blocksReserved = new LongAdder();
+    private final LongAdder idsAllocated = new LongAdder();
+    private volatile Timer fetchTimer;
+
+    public JobTypeIdAllocator(JdbcTemplate jdbcTemplate, @Value("${job-type.id.block-size:50}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("job-type.id.block-size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.blockSize = blockSize;
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next >= end) {
+                reserve(1);
+            }
+            idsAllocated.increment();
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Allocates {@code count} IDs, reserving however many extra blocks are needed in a single
+     * sequence query. IDs are unique but not necessarily contiguous.
+     */
+    public List<Long> nextIds(int count) {
+        lock.lock();
+        try {
+            List<Long> ids = new ArrayList<>(count);
+            while (ids.size() < count && next < end) {
+                ids.add(next++);
+            }
+            int missing = count - ids.size();
+            if (missing > 0) {
+                for (long start : fetchBlocks((missing + blockSize - 1) / blockSize)) {
+                    long value = start;
+                    long blockEnd = start + blockSize;
+                    while (value < blockEnd && ids.size() < count) {
+                        ids.add(value++);
+                    }
+                    next = value;
+                    end = blockEnd;
+                }
+            }
+            idsAllocated.add(count);
+            return ids;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fails unless {@code SEQ_P_JOB_TYPE} increments by {@code job-type.id.block-size}. With a
+     * smaller increment the blocks handed out here and by Hibernate overlap and inserts collide on
+     * the primary key. Run once the schema is in place, and before the first block is reserved.
+     */
+    public void verifySequence() {
+        Long increment;
+        try {
+            increment = jdbcTemplate.queryForObject(INCREMENT_QUERY, Long.class);
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalStateException("Sequence SEQ_P_JOB_TYPE does not exist", e);
+        }
+        if (increment == null || increment != blockSize) {
+            throw new IllegalStateException("SEQ_P_JOB_TYPE increments by " + increment
+                    + " but job-type.id.block-size is " + blockSize + ", so ID blocks would overlap");
+        }
+        sequenceVerified = true;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public long getBlockFetchCount() {
+        return blockFetches.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        fetchTimer = Timer.builder("jobtype.id.block.fetch")
+                .description("Time taken to reserve ID blocks from SEQ_P_JOB_TYPE")
+                .register(registry);
+        FunctionCounter.builder("jobtype.id.blocks.reserved", blocksReserved, LongAdder::sum)
+                .description("ID blocks reserved from the sequence")
+                .register(registry);
+        FunctionCounter.builder("jobtype.id.allocated", idsAllocated, LongAdder::sum)
+                .description("Job type IDs handed out")
+                .register(registry);
+        Gauge.builder("jobtype.id.block.remaining", this, JobTypeIdAllocator::remaining)
+                .description("IDs left in the current block")
+                .register(registry);
+    }
+
+    private double remaining() {
+        lock.lock();
+        try {
+            return Math.max(0, end - next);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reserve(int blocks) {
+        long start = fetchBlocks(blocks).get(0);
+        next = start;
+        end = start + blockSize;
+    }
+
+    private List<Long> fetchBlocks(int blocks) {
+        if (!sequenceVerified) {
+            verifySequence();
+        }
+        long startNanos = System.nanoTime();
+        List<Long> starts = jdbcTemplate.queryForList(NEXT_BLOCKS_QUERY, Long.class, blocks);
+        blockFetches.increment();
+        blocksReserved.add(starts.size());
+        Timer timer = fetchTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+        return starts;
+    }
+}
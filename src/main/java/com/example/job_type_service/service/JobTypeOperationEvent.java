@@ -0,0 +1,105 @@
+package com.example.job_type_service.service;
+
+import com.example.job_type_service.dto.JobTypeBatchGetResponse;
+import com.example.job_type_service.dto.JobTypeBulkDeleteResponse;
+import com.example.job_type_service.dto.JobTypeBulkInsertResponse;
+import com.example.job_type_service.dto.JobTypePage;
+import com.example.job_type_service.exception.JobTypeNotFoundException;
+import com.example.job_type_service.exception.JobTypeVersionConflictException;
+import com.example.job_type_service.repository.DatabaseCallEvent;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.function.Supplier;
+
+/**
+ * JFR event for one job type service call, enclosing the {@link DatabaseCallEvent}s it made on
+ * the same thread. Like those, it is only filled in and committed when a recording has it
+ * enabled.
+ */
+@Name("com.example.jobtype.Operation")
+@Label("Job Type Operation")
+@Category("Job Type Service")
+@Description("A job type insert, update, view, delete, list or search")
+@StackTrace(false)
+class JobTypeOperationEvent extends Event {
+
+    @Label("Stack")
+    @Description("sp for the PACK_TEST service, jpa for the JPA service")
+    String stack;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Method")
+    String method;
+
+    @Label("Key")
+    String key;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Outcome")
+    String outcome;
+
+    static <T> T record(String stack, String operation, String method, Object key, Supplier<T> work) {
+        JobTypeOperationEvent event = new JobTypeOperationEvent();
+        event.begin();
+        T result = null;
+        String outcome = "error";
+        try {
+            result = work.get();
+            outcome = "success";
+            return result;
+        } catch (JobTypeNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } catch (JobTypeVersionConflictException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.stack = stack;
+                event.operation = operation;
+                event.method = method;
+                event.key = key == null ? null : String.valueOf(key);
+                event.rows = rowsOf(result);
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Rows a service call or procedure returned or changed: the items of a page or batch, the
+     * count of a bulk write, else whatever {@link DatabaseCallEvent#rowsOf} reads from it.
+     */
+    static long rowsOf(Object result) {
+        if (result instanceof JobTypePage page) {
+            return page.items().size();
+        }
+        if (result instanceof JobTypeBatchGetResponse batch) {
+            return batch.items().size();
+        }
+        if (result instanceof JobTypeBulkInsertResponse inserted) {
+            return inserted.inserted();
+        }
+        if (result instanceof JobTypeBulkDeleteResponse deleted) {
+            return deleted.deleted();
+        }
+        return DatabaseCallEvent.rowsOf(result);
+    }
+
+    static void run(String stack, String operation, String method, Object key, Runnable work) {
+        record(stack, operation, method, key, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.job_type_service.service;
+
+import com.example.job_type_service.dto.JobTypePage;
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.exception.JobTypeServiceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Page size limits and continuation tokens for keyset pagination. A token carries the sort key
+ * of the last row returned ({@code P_JOB_TYPE_ID}, or {@code CODE} plus {@code P_JOB_TYPE_ID}),
+ * so the next page is a seek on the index rather than an {@code OFFSET}.
+ */
+@Component
+public class JobTypePaging {
+
+    public enum Sort {
+        ID, CODE
+    }
+
+    public record Cursor(Sort sort, Long afterId, String afterCode) {
+
+        public boolean isFirstPage() {
+            return afterId == null;
+        }
+    }
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public JobTypePaging(@Value("${job-type.page.default-size:50}") int defaultSize,
+                         @Value("${job-type.page.max-size:500}") int maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return Math.min(defaultSize, maxSize);
+        }
+        if (requested < 1) {
+            throw new JobTypeServiceException("Page size must be at least 1");
+        }
+        return Math.min(requested, maxSize);
+    }
+
+    public Sort resolveSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.ID;
+        }
+        try {
+            return Sort.valueOf(sort.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new JobTypeServiceException("Unsupported sort '" + sort + "'; expected 'id' or 'code'");
+        }
+    }
+
+    public Cursor decode(String token, Sort sort) {
+        if (token == null || token.isEmpty()) {
+            return new Cursor(sort, null, null);
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 3);
+            if (sort == Sort.ID && parts.length == 2 && parts[0].equals("i")) {
+                return new Cursor(sort, Long.valueOf(parts[1]), null);
+            }
+            if (sort == Sort.CODE && parts.length == 3 && parts[0].equals("c")) {
+                return new Cursor(sort, Long.valueOf(parts[1]), parts[2]);
+            }
+        } catch (IllegalArgumentException e) {
+            // reported below
+        }
+        throw new JobTypeServiceException("Invalid page cursor for sort '" + sort.name().toLowerCase(Locale.ROOT) + "'");
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra row only
+     * signals that another page exists.
+     */
+    public JobTypePage toPage(List<JobTypeResponse> rows, int size, Sort sort) {
+        if (rows.size() <= size) {
+            return new JobTypePage(List.copyOf(rows), null);
+        }
+        List<JobTypeResponse> items = List.copyOf(rows.subList(0, size));
+        return new JobTypePage(items, encode(items.get(size - 1), sort));
+    }
+
+    private static String encode(JobTypeResponse last, Sort sort) {
+        String key = sort == Sort.CODE
+                ? "c:" + last.getPJobTypeId() + ":" + last.getCode()
+                : "i:" + last.getPJobTypeId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,215 +1,587 @@
 package com.example.job_type_service.service;
 
+import com.example.job_type_service.cache.JobTypeCache;
+import com.example.job_type_service.cache.JobTypeCatalog;
+import com.example.job_type_service.cache.JobTypeCatalogSnapshot;
+import com.example.job_type_service.cache.JobTypeCodeIndex;
+import com.example.job_type_service.cache.JobTypeLoadCoalescer;
+import com.example.job_type_service.cache.JobTypeSearchIndex;
+import com.example.job_type_service.dto.JobTypeBatchGetResponse;
+import com.example.job_type_service.dto.JobTypeBulkDeleteResponse;
+import com.example.job_type_service.dto.JobTypeCollectionStats;
+import com.example.job_type_service.dto.JobTypePage;
 import com.example.job_type_service.dto.JobTypeRequest;
 import com.example.job_type_service.dto.JobTypeResponse;
 import com.example.job_type_service.dto.UpdateJobTypeRequest;
 import com.example.job_type_service.entity.PJobType;
+import com.example.job_type_service.event.JobTypeChangedEvent;
+import com.example.job_type_service.event.JobTypesDeletedEvent;
 import com.example.job_type_service.exception.JobTypeNotFoundException;
 import com.example.job_type_service.exception.JobTypeServiceException;
+import com.example.job_type_service.exception.JobTypeVersionConflictException;
+import com.example.job_type_service.repository.DatabaseCallEvent;
+import com.example.job_type_service.repository.JpaStatementCounter;
 import com.example.job_type_service.repository.PJobTypeRepository;
+import com.example.job_type_service.repository.RequestTimings;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.function.ThrowingConsumer;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class PJobTypeJpaService {
 
+    private static final String STACK = "jpa";
+
+    // Oracle rejects IN lists with more than 1000 expressions (ORA-01795)
+    static final int IN_CLAUSE_LIMIT = 1000;
+
     private final PJobTypeRepository jobTypeRepository;
+    private final JobTypeCache jobTypeCache;
+    private final JobTypeCatalog jobTypeCatalog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobTypePaging jobTypePaging;
+    private final JpaStatementCounter statementCounter;
+    private final JobTypeSearchIndex jobTypeSearchIndex;
+    private final JobTypeCodeIndex jobTypeCodeIndex;
+    private final JobTypeLoadCoalescer loadCoalescer;
+    private final RequestTimings requestTimings;
 
-    public PJobTypeJpaService(PJobTypeRepository jobTypeRepository) {
+    public PJobTypeJpaService(PJobTypeRepository jobTypeRepository, JobTypeCache jobTypeCache,
+                              JobTypeCatalog jobTypeCatalog, ApplicationEventPublisher eventPublisher,
+                              JobTypePaging jobTypePaging, JpaStatementCounter statementCounter,
+                              JobTypeSearchIndex jobTypeSearchIndex, JobTypeCodeIndex jobTypeCodeIndex,
+                              JobTypeLoadCoalescer loadCoalescer, RequestTimings requestTimings) {
         this.jobTypeRepository = jobTypeRepository;
+        this.jobTypeCache = jobTypeCache;
+        this.jobTypeCatalog = jobTypeCatalog;
+        this.eventPublisher = eventPublisher;
+        this.jobTypePaging = jobTypePaging;
+        this.statementCounter = statementCounter;
+        this.jobTypeSearchIndex = jobTypeSearchIndex;
+        this.jobTypeCodeIndex = jobTypeCodeIndex;
+        this.loadCoalescer = loadCoalescer;
+        this.requestTimings = requestTimings;
     }
 
     public JobTypeResponse insertJobType(JobTypeRequest request) {
-        try {
-            if (jobTypeRepository.existsByCode(request.getCode())) {
-                throw new JobTypeServiceException("Job type with code '" + request.getCode() + "' already exists");
-            }
+        return JobTypeOperationEvent.record(STACK, "insert", "insertJobType", request.getCode(), () -> {
+            try {
+                long mark = statementCounter.mark();
+                PJobType jobType = new PJobType();
+                jobType.setCode(request.getCode());
+                jobType.setDescription(request.getDescription());
+                jobType.setUpdateDate(LocalDateTime.now());
+                jobType.setUpdateBy(request.getUpdateBy());
 
-            PJobType jobType = new PJobType();
-            jobType.setCode(request.getCode());
-            jobType.setDescription(request.getDescription());
-            jobType.setUpdateDate(LocalDateTime.now());
-            jobType.setUpdateBy(request.getUpdateBy());
-
-            PJobType savedJobType = jobTypeRepository.save(jobType);
-            return convertToResponse(savedJobType);
-        } catch (JobTypeServiceException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to insert job type: " + e.getMessage(), e);
-        }
+                PJobType savedJobType = fromDatabase("saveAndFlush", jobType.getCode(), () -> jobTypeRepository.saveAndFlush(jobType));
+                statementCounter.recordWrite("insert", mark);
+                JobTypeResponse response = toResponse(savedJobType);
+                eventPublisher.publishEvent(JobTypeChangedEvent.saved(response));
+                return response;
+            } catch (DataIntegrityViolationException e) {
+                throw integrityViolation(request.getCode(), "insert", e);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to insert job type: " + e.getMessage(), e);
+            }
+        });
     }
 
     public JobTypeResponse updateJobType(Long id, UpdateJobTypeRequest request) {
-        try {
-            Optional<PJobType> existingJobTypeOpt = jobTypeRepository.findById(id);
-            if (existingJobTypeOpt.isEmpty()) {
-                throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
-            }
+        return updateJobType(id, request, null);
+    }
 
-            PJobType existingJobType = existingJobTypeOpt.get();
+    /**
+     * Updates the row only if it is still at {@code expectedVersion} ({@code null} skips the
+     * check). A versioned update is a single UPDATE and the response is built from the values
+     * written; an unversioned one reads back the version it produced.
+     */
+    public JobTypeResponse updateJobType(Long id, UpdateJobTypeRequest request, Long expectedVersion) {
+        return JobTypeOperationEvent.record(STACK, "update", "updateJobType", id, () -> {
+            try {
+                long mark = statementCounter.mark();
+                LocalDateTime updateDate = LocalDateTime.now();
+                int updated = fromDatabase("updateJobType", id, () -> jobTypeRepository.updateJobType(id, expectedVersion, request.getCode(),
+                        request.getDescription(), updateDate, request.getUpdateBy()));
+                if (updated == 0) {
+                    throw missingOrStale(id, expectedVersion);
+                }
+                Long version = expectedVersion != null
+                        ? expectedVersion + 1
+                        : fromDatabase("findVersionById", id, () -> jobTypeRepository.findVersionById(id)).orElseThrow();
+                statementCounter.recordWrite("update", mark);
 
-            if (!existingJobType.getCode().equals(request.getCode()) && 
-                jobTypeRepository.existsByCode(request.getCode())) {
-                throw new JobTypeServiceException("Job type with code '" + request.getCode() + "' already exists");
+                JobTypeResponse response = JobTypeResponse.builder()
+                        .pJobTypeId(id)
+                        .code(request.getCode())
+                        .description(request.getDescription())
+                        .updateDate(updateDate)
+                        .updateBy(request.getUpdateBy())
+                        .version(version)
+                        .build();
+                eventPublisher.publishEvent(JobTypeChangedEvent.saved(response));
+                return response;
+            } catch (JobTypeNotFoundException | JobTypeVersionConflictException e) {
+                throw e;
+            } catch (DataIntegrityViolationException e) {
+                throw integrityViolation(request.getCode(), "update", e);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to update job type: " + e.getMessage(), e);
             }
+        });
+    }
 
-            existingJobType.setCode(request.getCode());
-            existingJobType.setDescription(request.getDescription());
-            existingJobType.setUpdateDate(LocalDateTime.now());
-            existingJobType.setUpdateBy(request.getUpdateBy());
+    // A conditional write that matched nothing is only a conflict if the row still exists
+    private RuntimeException missingOrStale(Long id, Long expectedVersion) {
+        if (expectedVersion != null && fromDatabase("existsById", id, () -> jobTypeRepository.existsById(id))) {
+            return new JobTypeVersionConflictException(
+                    "Job type with ID " + id + " is no longer at version " + expectedVersion);
+        }
+        return new JobTypeNotFoundException("Job type with ID " + id + " not found");
+    }
 
-            PJobType updatedJobType = jobTypeRepository.save(existingJobType);
-            return convertToResponse(updatedJobType);
-        } catch (JobTypeNotFoundException | JobTypeServiceException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to update job type: " + e.getMessage(), e);
+    // Only ORA-00001 on UK_P_JOB_TYPE_CODE means the code is taken; a PK clash, ORA-12899 or
+    // ORA-01400 is reported like any other failed write
+    private static JobTypeServiceException integrityViolation(String code, String operation,
+                                                              DataIntegrityViolationException e) {
+        if (JobTypeConstraints.isDuplicateCode(e)) {
+            return new JobTypeServiceException("Job type with code '" + code + "' already exists", e);
         }
+        return new JobTypeServiceException("Failed to " + operation + " job type: " + e.getMessage(), e);
     }
 
-    @Transactional(readOnly = true)
+    // SUPPORTS keeps cache hits from opening a transaction (and borrowing a pooled connection);
+    // a miss runs inside the repository's own read-only transaction.
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public JobTypeResponse getJobTypeById(Long id) {
-        try {
-            Optional<PJobType> jobTypeOpt = jobTypeRepository.findById(id);
-            if (jobTypeOpt.isEmpty()) {
-                throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
+        return JobTypeOperationEvent.record(STACK, "view", "getJobTypeById", id, () -> {
+            JobTypeResponse cached = jobTypeCache.getById(id);
+            requestTimings.flag(RequestTimings.CACHE, cached != null ? "hit" : "miss");
+            if (cached != null) {
+                return cached;
             }
-            return convertToResponse(jobTypeOpt.get());
-        } catch (JobTypeNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to retrieve job type: " + e.getMessage(), e);
-        }
+            try {
+                long generation = jobTypeCache.generation();
+                return loadCoalescer.load("jpa.byId", id, generation, () -> {
+                    Optional<PJobType> jobTypeOpt = fromDatabase("findById", id, () -> jobTypeRepository.findById(id));
+                    if (jobTypeOpt.isEmpty()) {
+                        throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
+                    }
+                    JobTypeResponse response = toResponse(jobTypeOpt.get());
+                    jobTypeCache.put(generation, response);
+                    return response;
+                });
+            } catch (JobTypeNotFoundException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve job type: " + e.getMessage(), e);
+            }
+        });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public JobTypeResponse getJobTypeByCode(String code) {
-        try {
-            Optional<PJobType> jobTypeOpt = jobTypeRepository.findByCode(code);
-            if (jobTypeOpt.isEmpty()) {
-                throw new JobTypeNotFoundException("Job type with code '" + code + "' not found");
+        return JobTypeOperationEvent.record(STACK, "view", "getJobTypeByCode", code, () -> {
+            JobTypeResponse cached = jobTypeCache.getByCode(code);
+            requestTimings.flag(RequestTimings.CACHE, cached != null ? "hit" : "miss");
+            if (cached != null) {
+                return cached;
             }
-            return convertToResponse(jobTypeOpt.get());
-        } catch (JobTypeNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to retrieve job type by code: " + e.getMessage(), e);
+            try {
+                long generation = jobTypeCache.generation();
+                return loadCoalescer.load("jpa.byCode", code, generation, () -> {
+                    Optional<PJobType> jobTypeOpt = fromDatabase("findByCode", code, () -> jobTypeRepository.findByCode(code));
+                    if (jobTypeOpt.isEmpty()) {
+                        throw new JobTypeNotFoundException("Job type with code '" + code + "' not found");
+                    }
+                    JobTypeResponse response = toResponse(jobTypeOpt.get());
+                    jobTypeCache.put(generation, response);
+                    return response;
+                });
+            } catch (JobTypeNotFoundException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve job type by code: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Resolves many IDs and codes at once: duplicates are collapsed, near-cache entries are used
+     * first and only the remaining keys go to the database, in {@code IN} chunks of at most
+     * {@value #IN_CLAUSE_LIMIT}.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public JobTypeBatchGetResponse batchGetJobTypes(Collection<Long> ids, Collection<String> codes) {
+        return JobTypeOperationEvent.record(STACK, "view", "batchGetJobTypes", null, () -> {
+            try {
+                Map<Long, JobTypeResponse> found = new LinkedHashMap<>();
+                Set<Long> idsToLoad = new LinkedHashSet<>();
+                Set<String> codesToLoad = new LinkedHashSet<>();
+                Set<Long> requestedIds = distinct(ids);
+                Set<String> requestedCodes = distinct(codes);
+                for (Long id : requestedIds) {
+                    JobTypeResponse cached = jobTypeCache.getById(id);
+                    if (cached != null) {
+                        found.put(cached.getPJobTypeId(), cached);
+                    } else {
+                        idsToLoad.add(id);
+                    }
+                }
+                Map<String, JobTypeResponse> byCode = new LinkedHashMap<>();
+                for (String code : requestedCodes) {
+                    JobTypeResponse cached = jobTypeCache.getByCode(code);
+                    if (cached != null) {
+                        byCode.put(code, cached);
+                    } else {
+                        codesToLoad.add(code);
+                    }
+                }
+
+                long generation = jobTypeCache.generation();
+                List<JobTypeResponse> loaded = new ArrayList<>();
+                loaded.addAll(loadInChunks("findAllByIdIn", idsToLoad, jobTypeRepository::findAllByIdIn));
+                loaded.addAll(loadInChunks("findAllByCodeIn", codesToLoad, jobTypeRepository::findAllByCodeIn));
+                for (JobTypeResponse response : loaded) {
+                    jobTypeCache.put(generation, response);
+                    if (requestedIds.contains(response.getPJobTypeId())) {
+                        found.put(response.getPJobTypeId(), response);
+                    }
+                    if (requestedCodes.contains(response.getCode())) {
+                        byCode.put(response.getCode(), response);
+                    }
+                }
+                byCode.values().forEach(response -> found.putIfAbsent(response.getPJobTypeId(), response));
+
+                List<Long> missingIds = requestedIds.stream().filter(id -> !found.containsKey(id)).toList();
+                List<String> missingCodes = requestedCodes.stream().filter(code -> !byCode.containsKey(code)).toList();
+                return new JobTypeBatchGetResponse(List.copyOf(found.values()), missingIds, missingCodes);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to batch retrieve job types: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private <K> List<JobTypeResponse> loadInChunks(String call, Set<K> keys, Function<List<K>, List<PJobType>> query) {
+        List<K> remaining = new ArrayList<>(keys);
+        List<JobTypeResponse> loaded = new ArrayList<>();
+        for (int from = 0; from < remaining.size(); from += IN_CLAUSE_LIMIT) {
+            List<K> chunk = remaining.subList(from, Math.min(remaining.size(), from + IN_CLAUSE_LIMIT));
+            loaded.addAll(toResponses(fromDatabase(call, null, () -> query.apply(chunk))));
         }
+        return loaded;
+    }
+
+    private static <K> Set<K> distinct(Collection<K> keys) {
+        Set<K> distinct = new LinkedHashSet<>();
+        if (keys != null) {
+            keys.stream().filter(Objects::nonNull).forEach(distinct::add);
+        }
+        return distinct;
     }
 
     public void deleteJobType(Long id) {
-        try {
-            if (!jobTypeRepository.existsById(id)) {
-                throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
+        deleteJobType(id, null);
+    }
+
+    public void deleteJobType(Long id, Long expectedVersion) {
+        JobTypeOperationEvent.run(STACK, "delete", "deleteJobType", id, () -> {
+            try {
+                if (expectedVersion != null) {
+                    if (fromDatabase("deleteByIdAndVersion", id, () -> jobTypeRepository.deleteByIdAndVersion(id, expectedVersion)) == 0) {
+                        throw missingOrStale(id, expectedVersion);
+                    }
+                    eventPublisher.publishEvent(JobTypeChangedEvent.deleted(id, null));
+                    return;
+                }
+                if (fromDatabase("deleteJobTypeById", id, () -> jobTypeRepository.deleteJobTypeById(id)) == 0) {
+                    throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
+                }
+                eventPublisher.publishEvent(JobTypeChangedEvent.deleted(id, null));
+            } catch (JobTypeNotFoundException | JobTypeVersionConflictException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to delete job type: " + e.getMessage(), e);
             }
-            jobTypeRepository.deleteById(id);
-        } catch (JobTypeNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to delete job type: " + e.getMessage(), e);
-        }
+        });
     }
 
     public void deleteJobTypeByCode(String code) {
-        try {
-            if (!jobTypeRepository.existsByCode(code)) {
-                throw new JobTypeNotFoundException("Job type with code '" + code + "' not found");
+        JobTypeOperationEvent.run(STACK, "delete", "deleteJobTypeByCode", code, () -> {
+            try {
+                if (fromDatabase("deleteByCode", code, () -> jobTypeRepository.deleteByCode(code)) == 0) {
+                    throw new JobTypeNotFoundException("Job type with code '" + code + "' not found");
+                }
+                eventPublisher.publishEvent(JobTypeChangedEvent.deleted(null, code));
+            } catch (JobTypeNotFoundException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to delete job type by code: " + e.getMessage(), e);
             }
-            jobTypeRepository.deleteByCode(code);
-        } catch (JobTypeNotFoundException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to delete job type by code: " + e.getMessage(), e);
+        });
+    }
+
+    /**
+     * Deletes every listed ID and code with {@code DELETE ... IN} statements of at most
+     * {@value #IN_CLAUSE_LIMIT} keys, all in one transaction. Keys that match nothing are not an
+     * error; the response reports how many rows went.
+     */
+    public JobTypeBulkDeleteResponse bulkDeleteJobTypes(Collection<Long> ids, Collection<String> codes) {
+        return JobTypeOperationEvent.record(STACK, "delete", "bulkDeleteJobTypes", null, () -> {
+            try {
+                Set<Long> idsToDelete = distinct(ids);
+                Set<String> codesToDelete = distinct(codes);
+                int deleted = fromDatabase("deleteAllByIdIn", null, () -> deleteInChunks(idsToDelete, jobTypeRepository::deleteAllByIdIn))
+                        + fromDatabase("deleteAllByCodeIn", null, () -> deleteInChunks(codesToDelete, jobTypeRepository::deleteAllByCodeIn));
+                if (deleted > 0) {
+                    eventPublisher.publishEvent(new JobTypesDeletedEvent(idsToDelete, codesToDelete));
+                }
+                return new JobTypeBulkDeleteResponse(idsToDelete.size() + codesToDelete.size(), deleted);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to bulk delete job types: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private static <K> int deleteInChunks(Set<K> keys, ToIntFunction<List<K>> delete) {
+        List<K> remaining = new ArrayList<>(keys);
+        int deleted = 0;
+        for (int from = 0; from < remaining.size(); from += IN_CLAUSE_LIMIT) {
+            deleted += delete.applyAsInt(remaining.subList(from, Math.min(remaining.size(), from + IN_CLAUSE_LIMIT)));
         }
+        return deleted;
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<JobTypeResponse> getAllJobTypes() {
-        try {
-            List<PJobType> jobTypes = jobTypeRepository.findAll();
-            return jobTypes.stream()
-                    .map(this::convertToResponse)
-                    .toList();
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to retrieve all job types: " + e.getMessage(), e);
+        return JobTypeOperationEvent.record(STACK, "list", "getAllJobTypes", null, () -> {
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeCatalog.current().orderedById();
+                }
+                return loadCoalescer.load("jpa.all", "", jobTypeCache.generation(),
+                        () -> toResponses(fromDatabase("findAll", null, jobTypeRepository::findAll)));
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve all job types: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public JobTypePage getJobTypePage(String cursor, Integer size, String sort) {
+        return JobTypeOperationEvent.record(STACK, "list", "getJobTypePage", cursor, () -> {
+            JobTypePaging.Sort pageSort = jobTypePaging.resolveSort(sort);
+            JobTypePaging.Cursor after = jobTypePaging.decode(cursor, pageSort);
+            int pageSize = jobTypePaging.resolveSize(size);
+            try {
+                List<JobTypeResponse> rows;
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    JobTypeCatalogSnapshot snapshot = jobTypeCatalog.current();
+                    rows = pageSort == JobTypePaging.Sort.CODE
+                            ? snapshot.pageByCode(after.afterCode(), after.afterId(), pageSize + 1)
+                            : snapshot.pageById(after.afterId(), pageSize + 1);
+                } else {
+                    rows = toResponses(fromDatabase("findPage", after.afterId(), () -> findPage(after, Limit.of(pageSize + 1))));
+                }
+                return jobTypePaging.toPage(rows, pageSize, pageSort);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve job type page: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private List<PJobType> findPage(JobTypePaging.Cursor after, Limit limit) {
+        if (after.sort() == JobTypePaging.Sort.CODE) {
+            return after.isFirstPage()
+                    ? jobTypeRepository.findPageByCode(limit)
+                    : jobTypeRepository.findPageByCodeAfter(after.afterCode(), after.afterId(), limit);
         }
+        return after.isFirstPage()
+                ? jobTypeRepository.findPageById(limit)
+                : jobTypeRepository.findPageByIdAfter(after.afterId(), limit);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Hands every job type to {@code sink} in ID order as rows arrive from the database, without
+     * materializing the table. A failing sink (e.g. a disconnected client) closes the cursor.
+     */
+    @Transactional(readOnly = true, timeoutString = "${job-type.export.timeout-seconds:600}")
+    public long exportJobTypes(ThrowingConsumer<JobTypeResponse> sink) {
+        return JobTypeOperationEvent.record(STACK, "list", "exportJobTypes", null, () -> {
+            try (Stream<JobTypeResponse> rows = jobTypeRepository.streamAllForExport()) {
+                long count = 0;
+                for (Iterator<JobTypeResponse> it = rows.iterator(); it.hasNext(); count++) {
+                    sink.acceptWithException(it.next());
+                }
+                return count;
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to export job types: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<JobTypeResponse> getAllJobTypesOrderByUpdateDateDesc() {
-        try {
-            List<PJobType> jobTypes = jobTypeRepository.findAllOrderByUpdateDateDesc();
-            return jobTypes.stream()
-                    .map(this::convertToResponse)
-                    .toList();
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to retrieve job types ordered by update date: " + e.getMessage(), e);
-        }
+        return JobTypeOperationEvent.record(STACK, "list", "getAllJobTypesOrderByUpdateDateDesc", null, () -> {
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeCatalog.current().orderedByUpdateDateDesc();
+                }
+                List<PJobType> jobTypes = fromDatabase("findAllOrderByUpdateDateDesc", null, () -> jobTypeRepository.findAllOrderByUpdateDateDesc());
+                return toResponses(jobTypes);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve job types ordered by update date: " + e.getMessage(), e);
+            }
+        });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<JobTypeResponse> getAllJobTypesOrderByCodeAsc() {
-        try {
-            List<PJobType> jobTypes = jobTypeRepository.findAllOrderByCodeAsc();
-            return jobTypes.stream()
-                    .map(this::convertToResponse)
-                    .toList();
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to retrieve job types ordered by code: " + e.getMessage(), e);
-        }
+        return JobTypeOperationEvent.record(STACK, "list", "getAllJobTypesOrderByCodeAsc", null, () -> {
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeCatalog.current().orderedByCode();
+                }
+                List<PJobType> jobTypes = fromDatabase("findAllOrderByCodeAsc", null, () -> jobTypeRepository.findAllOrderByCodeAsc());
+                return toResponses(jobTypes);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve job types ordered by code: " + e.getMessage(), e);
+            }
+        });
     }
 
-    @Transactional(readOnly = true)
-    public List<JobTypeResponse> searchJobTypesByDescription(String description) {
-        try {
-            List<PJobType> jobTypes = jobTypeRepository.findByDescriptionContainingIgnoreCase(description);
-            return jobTypes.stream()
-                    .map(this::convertToResponse)
-                    .toList();
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to search job types by description: " + e.getMessage(), e);
-        }
+    /**
+     * Case-insensitive substring search over code and description, ranked by
+     * {@link JobTypeSearchIndex}. Without the catalog the database does the matching, ordered by
+     * code.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<JobTypeResponse> searchJobTypes(String query, Integer limit) {
+        return JobTypeOperationEvent.record(STACK, "search", "searchJobTypes", query, () -> {
+            int maxResults = jobTypeSearchIndex.resolveLimit(limit);
+            if (query == null || query.isBlank()) {
+                throw new JobTypeServiceException("Search query must not be blank");
+            }
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeSearchIndex.search(query, maxResults);
+                }
+                List<PJobType> jobTypes = fromDatabase("searchByCodeOrDescription", query, () -> jobTypeRepository.searchByCodeOrDescription(query.trim(), Limit.of(maxResults)));
+                return toResponses(jobTypes);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to search job types: " + e.getMessage(), e);
+            }
+        });
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Job types whose code starts with {@code prefix}, ignoring case, in code order; served from
+     * {@link JobTypeCodeIndex} when the catalog is enabled.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<JobTypeResponse> suggestJobTypes(String prefix, Integer limit) {
+        return JobTypeOperationEvent.record(STACK, "search", "suggestJobTypes", prefix, () -> {
+            int maxResults = jobTypeCodeIndex.resolveLimit(limit);
+            String folded = JobTypeCodeIndex.normalizePrefix(prefix);
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeCodeIndex.suggest(folded, maxResults);
+                }
+                String pattern = folded.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+                List<PJobType> jobTypes = fromDatabase("findByCodePrefix", pattern, () -> jobTypeRepository.findByCodePrefix(pattern, Limit.of(maxResults)));
+                return toResponses(jobTypes);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to suggest job types: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<JobTypeResponse> getJobTypesByUpdateBy(String updateBy) {
-        try {
-            List<PJobType> jobTypes = jobTypeRepository.findByUpdateBy(updateBy);
-            return jobTypes.stream()
-                    .map(this::convertToResponse)
-                    .toList();
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to retrieve job types by update user: " + e.getMessage(), e);
-        }
+        return JobTypeOperationEvent.record(STACK, "list", "getJobTypesByUpdateBy", updateBy, () -> {
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeCatalog.current().filter(jobType -> Objects.equals(jobType.getUpdateBy(), updateBy));
+                }
+                List<PJobType> jobTypes = fromDatabase("findByUpdateBy", updateBy, () -> jobTypeRepository.findByUpdateBy(updateBy));
+                return toResponses(jobTypes);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve job types by update user: " + e.getMessage(), e);
+            }
+        });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<JobTypeResponse> getJobTypesUpdatedAfter(LocalDateTime updateDate) {
-        try {
-            List<PJobType> jobTypes = jobTypeRepository.findByUpdateDateAfter(updateDate);
-            return jobTypes.stream()
-                    .map(this::convertToResponse)
-                    .toList();
-        } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to retrieve job types updated after date: " + e.getMessage(), e);
-        }
+        return JobTypeOperationEvent.record(STACK, "list", "getJobTypesUpdatedAfter", updateDate, () -> {
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeCatalog.current().filter(jobType -> jobType.getUpdateDate().isAfter(updateDate));
+                }
+                List<PJobType> jobTypes = fromDatabase("findByUpdateDateAfter", updateDate, () -> jobTypeRepository.findByUpdateDateAfter(updateDate));
+                return toResponses(jobTypes);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve job types updated after date: " + e.getMessage(), e);
+            }
+        });
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<JobTypeResponse> getJobTypesUpdatedBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return JobTypeOperationEvent.record(STACK, "list", "getJobTypesUpdatedBetween", startDate, () -> {
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeCatalog.current().filter(jobType -> !jobType.getUpdateDate().isBefore(startDate)
+                            && !jobType.getUpdateDate().isAfter(endDate));
+                }
+                List<PJobType> jobTypes = fromDatabase("findByUpdateDateBetween", startDate, () -> jobTypeRepository.findByUpdateDateBetween(startDate, endDate));
+                return toResponses(jobTypes);
+            } catch (Exception e) {
+                throw new JobTypeServiceException("Failed to retrieve job types updated between dates: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public JobTypeCollectionStats getCollectionStats() {
         try {
-            List<PJobType> jobTypes = jobTypeRepository.findByUpdateDateBetween(startDate, endDate);
-            return jobTypes.stream()
-                    .map(this::convertToResponse)
-                    .toList();
+            if (jobTypeCatalog.isEnabled()) {
+                requestTimings.flag(RequestTimings.CACHE, "catalog");
+                JobTypeCatalogSnapshot snapshot = jobTypeCatalog.current();
+                return new JobTypeCollectionStats(snapshot.size(), snapshot.maxUpdateDate());
+            }
+            return fromDatabase("findCollectionStats", null, jobTypeRepository::findCollectionStats);
         } catch (Exception e) {
-            throw new JobTypeServiceException("Failed to retrieve job types updated between dates: " + e.getMessage(), e);
+            throw new JobTypeServiceException("Failed to retrieve job type collection stats: " + e.getMessage(), e);
         }
     }
 
@@ -233,6 +605,21 @@ public class PJobTypeJpaService {
         return jobTypeRepository.count();
     }
 
+    // One repository call: the request's db phase and a DatabaseCallEvent
+    private <T> T fromDatabase(String call, Object key, Supplier<T> work) {
+        return DatabaseCallEvent.record(STACK, call, key, () -> requestTimings.time(RequestTimings.Phase.DB, work));
+    }
+
+    private JobTypeResponse toResponse(PJobType jobType) {
+        return requestTimings.time(RequestTimings.Phase.MAPPING, () -> convertToResponse(jobType));
+    }
+
+    private List<JobTypeResponse> toResponses(List<PJobType> jobTypes) {
+        return requestTimings.time(RequestTimings.Phase.MAPPING, () -> jobTypes.stream()
+                .map(this::convertToResponse)
+                .toList());
+    }
+
     private JobTypeResponse convertToResponse(PJobType jobType) {
         return JobTypeResponse.builder()
                 .pJobTypeId(jobType.getPJobTypeId())
@@ -240,6 +627,7 @@ public class PJobTypeJpaService {
                 .description(jobType.getDescription())
                 .updateDate(jobType.getUpdateDate())
                 .updateBy(jobType.getUpdateBy())
+                .version(jobType.getVersion())
                 .build();
     }
 }
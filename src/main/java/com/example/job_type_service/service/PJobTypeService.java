@@ -1,99 +1,333 @@
 package com.example.job_type_service.service;
 
+import com.example.job_type_service.cache.JobTypeCache;
+import com.example.job_type_service.cache.JobTypeCatalog;
+import com.example.job_type_service.cache.JobTypeCatalogSnapshot;
+import com.example.job_type_service.cache.JobTypeLoadCoalescer;
+import com.example.job_type_service.dto.JobTypeBulkInsertResponse;
+import com.example.job_type_service.dto.JobTypeCollectionStats;
+import com.example.job_type_service.dto.JobTypePage;
 import com.example.job_type_service.dto.JobTypeRequest;
 import com.example.job_type_service.dto.JobTypeResponse;
 import com.example.job_type_service.dto.UpdateJobTypeRequest;
+import com.example.job_type_service.event.JobTypeChangedEvent;
 import com.example.job_type_service.exception.JobTypeNotFoundException;
 import com.example.job_type_service.exception.JobTypeServiceException;
+import com.example.job_type_service.exception.JobTypeVersionConflictException;
+import com.example.job_type_service.repository.DatabaseCallMetrics;
+import com.example.job_type_service.repository.RequestTimings;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.CallableStatementCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.util.function.ThrowingConsumer;
 
+import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 @Service
 public class PJobTypeService {
 
+    private static final String STACK = "sp";
+
+    // RAISE_APPLICATION_ERROR code PACK_TEST uses when a versioned write finds a newer row
+    private static final int VERSION_CONFLICT = 20003;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private JobTypeCache jobTypeCache;
+
+    @Autowired
+    private JobTypeCatalog jobTypeCatalog;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JobTypePaging jobTypePaging;
+
+    @Autowired
+    private JobTypeIdAllocator jobTypeIdAllocator;
+
+    @Autowired
+    private JobTypeLoadCoalescer loadCoalescer;
+
+    @Autowired
+    private DatabaseCallMetrics databaseCallMetrics;
+
+    @Autowired
+    private RequestTimings requestTimings;
+
+    @Value("${job-type.export.fetch-size:500}")
+    private int exportFetchSize;
+
     public JobTypeResponse insertJobType(JobTypeRequest request) {
-        try {
-            Long newId = jdbcTemplate.queryForObject("SELECT SEQ_P_JOB_TYPE.NEXTVAL FROM dual", Long.class);
+        return JobTypeOperationEvent.record(STACK, "insert", "insertJobType", request.getCode(), () -> {
+            try {
+                Long newId = jobTypeIdAllocator.nextId();
             
-            String sql = "{ call PACK_TEST.insert_job_type(?, ?, ?, ?) }";
+                String sql = "{ call PACK_TEST.insert_job_type_ret(?, ?, ?, ?, ?, ?, ?, ?, ?) }";
             
-            jdbcTemplate.execute(sql, (CallableStatement cs) -> {
-                try {
-                    cs.setLong(1, newId);
-                    cs.setString(2, request.getCode());
-                    cs.setString(3, request.getDescription());
-                    cs.setString(4, request.getUpdateBy());
-                    cs.execute();
-                } catch (SQLException e) {
-                    throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
-                }
-                return null;
-            });
+                JobTypeResponse response = callProcedure(sql, newId, (CallableStatement cs) -> {
+                    try {
+                        cs.setLong(1, newId);
+                        cs.setString(2, request.getCode());
+                        cs.setString(3, request.getDescription());
+                        cs.setString(4, request.getUpdateBy());
+                        registerWrittenRow(cs);
+                        cs.execute();
+                        return readWrittenRow(newId, cs);
+                    } catch (SQLException e) {
+                        throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
+                    }
+                });
             
-            return getJobTypeById(newId);
-        } catch (Exception e) {
-            if (e.getCause() instanceof SQLException) {
-                throw new JobTypeServiceException("Failed to insert job type: " + e.getCause().getMessage(), e);
+                eventPublisher.publishEvent(JobTypeChangedEvent.saved(response));
+                return response;
+            } catch (Exception e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw new JobTypeServiceException("Failed to insert job type: " + e.getCause().getMessage(), e);
+                }
+                throw new JobTypeServiceException("Unexpected error while inserting job type: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Inserts many rows with at most one sequence query and one JDBC batch of {@code insert_job_type}
+     * calls instead of three round trips per row. A row the database rejects (e.g. a duplicate
+     * code) is reported in its result and the batch resumes after it; rows are not read back.
+     */
+    public JobTypeBulkInsertResponse bulkInsertJobTypes(List<JobTypeRequest> requests) {
+        return JobTypeOperationEvent.record(STACK, "insert", "bulkInsertJobTypes", null, () -> {
+            try {
+                List<Long> ids = jobTypeIdAllocator.nextIds(requests.size());
+                String[] errors = new String[requests.size()];
+                Set<String> seenCodes = new HashSet<>();
+                List<Integer> pending = new ArrayList<>();
+                for (int i = 0; i < requests.size(); i++) {
+                    if (seenCodes.add(requests.get(i).getCode())) {
+                        pending.add(i);
+                    } else {
+                        errors[i] = "Job type with code '" + requests.get(i).getCode() + "' appears more than once in the request";
+                    }
+                }
+
+                String sql = "{ call PACK_TEST.insert_job_type(?, ?, ?, ?) }";
+
+                callProcedure(sql, null, (CallableStatement cs) -> {
+                    try {
+                        int start = 0;
+                        while (start < pending.size()) {
+                            for (int i = start; i < pending.size(); i++) {
+                                int index = pending.get(i);
+                                JobTypeRequest request = requests.get(index);
+                                cs.setLong(1, ids.get(index));
+                                cs.setString(2, request.getCode());
+                                cs.setString(3, request.getDescription());
+                                cs.setString(4, request.getUpdateBy());
+                                cs.addBatch();
+                            }
+                            start = executeBatchFrom(cs, pending, start, requests, errors);
+                        }
+                    } catch (SQLException e) {
+                        throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
+                    }
+                    return null;
+                });
+
+                List<JobTypeBulkInsertResponse.Result> results = new ArrayList<>(requests.size());
+                for (int i = 0; i < requests.size(); i++) {
+                    results.add(new JobTypeBulkInsertResponse.Result(i, requests.get(i).getCode(),
+                            errors[i] == null ? ids.get(i) : null, errors[i]));
+                }
+                int failed = (int) results.stream().filter(result -> !result.succeeded()).count();
+                if (failed < requests.size()) {
+                    refreshCatalogAfterBulkWrite();
+                }
+                return new JobTypeBulkInsertResponse(requests.size() - failed, failed, results);
+            } catch (Exception e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw new JobTypeServiceException("Failed to bulk insert job types: " + e.getCause().getMessage(), e);
+                }
+                throw new JobTypeServiceException("Unexpected error while bulk inserting job types: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Runs the queued batch for {@code pending[start..]} and returns where the next batch must
+     * start. Drivers that stop at the first failing row report only the rows before it, so that
+     * row is marked failed and the rest are re-queued; drivers that keep going report every row.
+     */
+    private static int executeBatchFrom(CallableStatement cs, List<Integer> pending, int start,
+                                        List<JobTypeRequest> requests, String[] errors) throws SQLException {
+        try {
+            cs.executeBatch();
+            return pending.size();
+        } catch (BatchUpdateException e) {
+            cs.clearBatch();
+            int[] counts = e.getUpdateCounts() == null ? new int[0] : e.getUpdateCounts();
+            int batchSize = pending.size() - start;
+            if (counts.length >= batchSize) {
+                for (int i = 0; i < batchSize; i++) {
+                    if (counts[i] == Statement.EXECUTE_FAILED) {
+                        int index = pending.get(start + i);
+                        errors[index] = bulkInsertError(requests.get(index), e);
+                    }
+                }
+                return pending.size();
             }
-            throw new JobTypeServiceException("Unexpected error while inserting job type: " + e.getMessage(), e);
+            int succeeded = 0;
+            while (succeeded < counts.length && counts[succeeded] != Statement.EXECUTE_FAILED) {
+                succeeded++;
+            }
+            int failedIndex = pending.get(start + succeeded);
+            errors[failedIndex] = bulkInsertError(requests.get(failedIndex), e);
+            return start + succeeded + 1;
         }
     }
 
-    public JobTypeResponse updateJobType(Long id, UpdateJobTypeRequest request) {
+    private static String bulkInsertError(JobTypeRequest request, SQLException e) {
+        if (JobTypeConstraints.isDuplicateCode(e)) {
+            return "Job type with code '" + request.getCode() + "' already exists";
+        }
+        return "Failed to insert job type: " + e.getMessage();
+    }
+
+    // Bulk rows are not read back, so their UPDATE_DATE is unknown here; let the catalog pull
+    // them by watermark now rather than on the next scheduled refresh.
+    private void refreshCatalogAfterBulkWrite() {
+        if (!jobTypeCatalog.isEnabled()) {
+            return;
+        }
         try {
-            String sql = "{ call PACK_TEST.update_job_type(?, ?, ?, ?) }";
+            jobTypeCatalog.refresh();
+        } catch (RuntimeException e) {
+            // the scheduled refresh will catch up
+        }
+    }
+
+    public JobTypeResponse updateJobType(Long id, UpdateJobTypeRequest request) {
+        return updateJobType(id, request, null);
+    }
+
+    // expectedVersion goes in through the IN OUT version parameter; null updates unconditionally
+    public JobTypeResponse updateJobType(Long id, UpdateJobTypeRequest request, Long expectedVersion) {
+        return JobTypeOperationEvent.record(STACK, "update", "updateJobType", id, () -> {
+            try {
+                String sql = "{ call PACK_TEST.update_job_type_ret(?, ?, ?, ?, ?, ?, ?, ?, ?) }";
             
-            jdbcTemplate.execute(sql, (CallableStatement cs) -> {
-                try {
-                    cs.setLong(1, id);
-                    cs.setString(2, request.getCode());
-                    cs.setString(3, request.getDescription());
-                    cs.setString(4, request.getUpdateBy());
-                    cs.execute();
-                } catch (SQLException e) {
-                    if (e.getErrorCode() == 20001) {
-                        throw new RuntimeException("Job type with ID " + id + " not found", e);
+                JobTypeResponse response = callProcedure(sql, id, (CallableStatement cs) -> {
+                    try {
+                        cs.setLong(1, id);
+                        cs.setString(2, request.getCode());
+                        cs.setString(3, request.getDescription());
+                        cs.setString(4, request.getUpdateBy());
+                        setVersion(cs, 9, expectedVersion);
+                        registerWrittenRow(cs);
+                        cs.execute();
+                        return readWrittenRow(id, cs);
+                    } catch (SQLException e) {
+                        if (e.getErrorCode() == 20001) {
+                            throw new RuntimeException("Job type with ID " + id + " not found", e);
+                        }
+                        if (e.getErrorCode() == VERSION_CONFLICT) {
+                            throw new RuntimeException("Job type with ID " + id + " is no longer at version " + expectedVersion, e);
+                        }
+                        throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
                     }
-                    throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
-                }
-                return null;
-            });
+                });
             
-            return getJobTypeById(id);
-        } catch (Exception e) {
-            if (e.getCause() instanceof SQLException) {
-                SQLException sqlEx = (SQLException) e.getCause();
-                if (sqlEx.getErrorCode() == 20001) {
-                    throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
+                eventPublisher.publishEvent(JobTypeChangedEvent.saved(response));
+                return response;
+            } catch (Exception e) {
+                if (e.getCause() instanceof SQLException) {
+                    SQLException sqlEx = (SQLException) e.getCause();
+                    if (sqlEx.getErrorCode() == 20001) {
+                        throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
+                    }
+                    if (sqlEx.getErrorCode() == VERSION_CONFLICT) {
+                        throw new JobTypeVersionConflictException(
+                                "Job type with ID " + id + " is no longer at version " + expectedVersion, e);
+                    }
+                    throw new JobTypeServiceException("Failed to update job type: " + sqlEx.getMessage(), e);
                 }
-                throw new JobTypeServiceException("Failed to update job type: " + sqlEx.getMessage(), e);
+                throw new JobTypeServiceException("Unexpected error while updating job type: " + e.getMessage(), e);
             }
-            throw new JobTypeServiceException("Unexpected error while updating job type: " + e.getMessage(), e);
+        });
+    }
+
+    // OUT parameters 5-9 of insert_job_type_ret / update_job_type_ret carry the row as written
+    private static void registerWrittenRow(CallableStatement cs) throws SQLException {
+        cs.registerOutParameter(5, Types.VARCHAR);
+        cs.registerOutParameter(6, Types.VARCHAR);
+        cs.registerOutParameter(7, Types.TIMESTAMP);
+        cs.registerOutParameter(8, Types.VARCHAR);
+        cs.registerOutParameter(9, Types.NUMERIC);
+    }
+
+    private static void setVersion(CallableStatement cs, int index, Long version) throws SQLException {
+        if (version == null) {
+            cs.setNull(index, Types.NUMERIC);
+        } else {
+            cs.setLong(index, version);
         }
     }
 
+    private static JobTypeResponse readWrittenRow(Long id, CallableStatement cs) throws SQLException {
+        return JobTypeResponse.builder()
+                .pJobTypeId(id)
+                .code(cs.getString(5))
+                .description(cs.getString(6))
+                .updateDate(cs.getTimestamp(7).toLocalDateTime())
+                .updateBy(cs.getString(8))
+                .version(cs.getLong(9))
+                .build();
+    }
+
     public JobTypeResponse getJobTypeById(Long id) {
+        return JobTypeOperationEvent.record(STACK, "view", "getJobTypeById", id, () -> {
+            JobTypeResponse cached = jobTypeCache.getById(id);
+            requestTimings.flag(RequestTimings.CACHE, cached != null ? "hit" : "miss");
+            if (cached != null) {
+                return cached;
+            }
+            long generation = jobTypeCache.generation();
+            return loadCoalescer.load("sp.byId", id, generation, () -> {
+                JobTypeResponse response = loadJobTypeById(id);
+                jobTypeCache.put(generation, response);
+                return response;
+            });
+        });
+    }
+
+    private JobTypeResponse loadJobTypeById(Long id) {
         try {
-            String sql = "{ call PACK_TEST.view_job_type(?, ?, ?, ?, ?) }";
+            String sql = "{ call PACK_TEST.view_job_type(?, ?, ?, ?, ?, ?) }";
             
-            return jdbcTemplate.execute(sql, (CallableStatement cs) -> {
+            return callProcedure(sql, id, (CallableStatement cs) -> {
                 try {
                     cs.setLong(1, id);
                     cs.registerOutParameter(2, Types.VARCHAR);
                     cs.registerOutParameter(3, Types.VARCHAR);
                     cs.registerOutParameter(4, Types.TIMESTAMP);
                     cs.registerOutParameter(5, Types.VARCHAR);
+                    cs.registerOutParameter(6, Types.NUMERIC);
                     cs.execute();
                     
                     String code = cs.getString(2);
@@ -107,6 +341,7 @@ public class PJobTypeService {
                             .description(cs.getString(3))
                             .updateDate(cs.getTimestamp(4).toLocalDateTime())
                             .updateBy(cs.getString(5))
+                            .version(cs.getLong(6))
                             .build();
                 } catch (SQLException e) {
                     throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
@@ -124,80 +359,250 @@ public class PJobTypeService {
     }
 
     public void deleteJobType(Long id) {
-        try {
-            String sql = "{ call PACK_TEST.delete_job_type(?) }";
+        deleteJobType(id, null);
+    }
+
+    public void deleteJobType(Long id, Long expectedVersion) {
+        JobTypeOperationEvent.run(STACK, "delete", "deleteJobType", id, () -> {
+            try {
+                String sql = "{ call PACK_TEST.delete_job_type(?, ?) }";
             
-            jdbcTemplate.execute(sql, (CallableStatement cs) -> {
-                try {
-                    cs.setLong(1, id);
-                    cs.execute();
-                } catch (SQLException e) {
-                    if (e.getErrorCode() == 20002) {
-                        throw new RuntimeException("Job type with ID " + id + " not found", e);
+                callProcedure(sql, id, (CallableStatement cs) -> {
+                    try {
+                        cs.setLong(1, id);
+                        setVersion(cs, 2, expectedVersion);
+                        cs.execute();
+                    } catch (SQLException e) {
+                        if (e.getErrorCode() == 20002) {
+                            throw new RuntimeException("Job type with ID " + id + " not found", e);
+                        }
+                        if (e.getErrorCode() == VERSION_CONFLICT) {
+                            throw new RuntimeException("Job type with ID " + id + " is no longer at version " + expectedVersion, e);
+                        }
+                        throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
                     }
-                    throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
-                }
-                return null;
-            });
-        } catch (Exception e) {
-            if (e.getCause() instanceof SQLException) {
-                SQLException sqlEx = (SQLException) e.getCause();
-                if (sqlEx.getErrorCode() == 20002) {
-                    throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
+                    return null;
+                });
+                eventPublisher.publishEvent(JobTypeChangedEvent.deleted(id, null));
+            } catch (Exception e) {
+                if (e.getCause() instanceof SQLException) {
+                    SQLException sqlEx = (SQLException) e.getCause();
+                    if (sqlEx.getErrorCode() == 20002) {
+                        throw new JobTypeNotFoundException("Job type with ID " + id + " not found");
+                    }
+                    if (sqlEx.getErrorCode() == VERSION_CONFLICT) {
+                        throw new JobTypeVersionConflictException(
+                                "Job type with ID " + id + " is no longer at version " + expectedVersion, e);
+                    }
+                    throw new JobTypeServiceException("Failed to delete job type: " + sqlEx.getMessage(), e);
                 }
-                throw new JobTypeServiceException("Failed to delete job type: " + sqlEx.getMessage(), e);
+                throw new JobTypeServiceException("Unexpected error while deleting job type: " + e.getMessage(), e);
             }
-            throw new JobTypeServiceException("Unexpected error while deleting job type: " + e.getMessage(), e);
-        }
+        });
     }
 
     public List<JobTypeResponse> getAllJobTypes() {
-        try {
-            String sql = "{ call PACK_TEST.get_all_job_types(?) }";
+        return JobTypeOperationEvent.record(STACK, "list", "getAllJobTypes", null, () -> {
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    return jobTypeCatalog.current().orderedById();
+                }
+
+                String sql = "{ call PACK_TEST.get_all_job_types(?) }";
             
-            return jdbcTemplate.execute(sql, (CallableStatement cs) -> {
-                try {
-                    cs.registerOutParameter(1, Types.REF_CURSOR);
-                    cs.execute();
-                    
-                    java.sql.ResultSet rs = (java.sql.ResultSet) cs.getObject(1);
-                    List<JobTypeResponse> jobTypes = new ArrayList<>();
+                // Callers share the list, so it is handed out unmodifiable
+                return loadCoalescer.load("sp.all", "", jobTypeCache.generation(), () -> callProcedure(sql, null, (CallableStatement cs) -> {
+                    try {
+                        cs.registerOutParameter(1, Types.REF_CURSOR);
+                        cs.execute();
                     
-                    while (rs.next()) {
-                        jobTypes.add(JobTypeResponse.builder()
-                            .pJobTypeId(rs.getLong("P_JOB_TYPE_ID"))
-                            .code(rs.getString("CODE"))
-                            .description(rs.getString("DESCRIPTION"))
-                            .updateDate(rs.getTimestamp("UPDATE_DATE").toLocalDateTime())
-                            .updateBy(rs.getString("UPDATE_BY"))
-                            .build());
+                        return List.copyOf(readJobTypes((ResultSet) cs.getObject(1)));
+                    } catch (SQLException e) {
+                        throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
                     }
-                    
-                    rs.close();
-                    return jobTypes;
-                } catch (SQLException e) {
-                    throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
+                }));
+            } catch (Exception e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw new JobTypeServiceException("Failed to retrieve all job types: " + e.getCause().getMessage(), e);
                 }
-            });
-        } catch (Exception e) {
-            if (e.getCause() instanceof SQLException) {
-                throw new JobTypeServiceException("Failed to retrieve all job types: " + e.getCause().getMessage(), e);
+                throw new JobTypeServiceException("Unexpected error while retrieving all job types: " + e.getMessage(), e);
             }
-            throw new JobTypeServiceException("Unexpected error while retrieving all job types: " + e.getMessage(), e);
+        });
+    }
+
+    public JobTypePage getJobTypePage(String cursor, Integer size, String sort) {
+        return JobTypeOperationEvent.record(STACK, "list", "getJobTypePage", cursor, () -> {
+            JobTypePaging.Sort pageSort = jobTypePaging.resolveSort(sort);
+            JobTypePaging.Cursor after = jobTypePaging.decode(cursor, pageSort);
+            int pageSize = jobTypePaging.resolveSize(size);
+            try {
+                if (jobTypeCatalog.isEnabled()) {
+                    requestTimings.flag(RequestTimings.CACHE, "catalog");
+                    JobTypeCatalogSnapshot snapshot = jobTypeCatalog.current();
+                    List<JobTypeResponse> rows = pageSort == JobTypePaging.Sort.CODE
+                            ? snapshot.pageByCode(after.afterCode(), after.afterId(), pageSize + 1)
+                            : snapshot.pageById(after.afterId(), pageSize + 1);
+                    return jobTypePaging.toPage(rows, pageSize, pageSort);
+                }
+
+                boolean byCode = pageSort == JobTypePaging.Sort.CODE;
+                String sql = byCode
+                        ? "{ call PACK_TEST.get_job_types_page_by_code(?, ?, ?, ?) }"
+                        : "{ call PACK_TEST.get_job_types_page(?, ?, ?) }";
+
+                List<JobTypeResponse> rows = callProcedure(sql, after.afterId(), (CallableStatement cs) -> {
+                    try {
+                        int index = 1;
+                        if (byCode) {
+                            cs.setString(index++, after.afterCode());
+                        }
+                        if (after.afterId() == null) {
+                            cs.setNull(index++, Types.NUMERIC);
+                        } else {
+                            cs.setLong(index++, after.afterId());
+                        }
+                        cs.setInt(index++, pageSize + 1);
+                        cs.registerOutParameter(index, Types.REF_CURSOR);
+                        cs.execute();
+
+                        return readJobTypes((ResultSet) cs.getObject(index));
+                    } catch (SQLException e) {
+                        throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
+                    }
+                });
+                return jobTypePaging.toPage(rows, pageSize, pageSort);
+            } catch (Exception e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw new JobTypeServiceException("Failed to retrieve job type page: " + e.getCause().getMessage(), e);
+                }
+                throw new JobTypeServiceException("Unexpected error while retrieving job type page: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Streams the {@code get_all_job_types} ref cursor to {@code sink} row by row, reading
+     * {@code job-type.export.fetch-size} rows per round trip. A failing sink closes the cursor.
+     */
+    public long exportJobTypes(ThrowingConsumer<JobTypeResponse> sink) {
+        return JobTypeOperationEvent.record(STACK, "list", "exportJobTypes", null, () -> {
+            try {
+                String sql = "{ call PACK_TEST.get_all_job_types(?) }";
+
+                return callProcedure(sql, null, (CallableStatement cs) -> {
+                    try {
+                        cs.registerOutParameter(1, Types.REF_CURSOR);
+                        cs.execute();
+
+                        try (ResultSet rs = (ResultSet) cs.getObject(1)) {
+                            if (exportFetchSize > 0) {
+                                rs.setFetchSize(exportFetchSize);
+                            }
+                            long count = 0;
+                            while (rs.next()) {
+                                sink.acceptWithException(mapJobType(rs));
+                                count++;
+                            }
+                            return count;
+                        }
+                    } catch (SQLException e) {
+                        throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
+                    } catch (Exception e) {
+                        throw new RuntimeException("Failed to write exported job type: " + e.getMessage(), e);
+                    }
+                });
+            } catch (Exception e) {
+                if (e.getCause() instanceof SQLException) {
+                    throw new JobTypeServiceException("Failed to export job types: " + e.getCause().getMessage(), e);
+                }
+                throw new JobTypeServiceException("Unexpected error while exporting job types: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    // Times the call as jobtype.db.calls, tagged with the procedure name taken from the call
+    // string, and as the request's db phase. Rows are mapped as the cursor is read, so ref cursor
+    // mapping counts as db time here.
+    private <T> T callProcedure(String sql, Object key, CallableStatementCallback<T> action) {
+        return requestTimings.time(RequestTimings.Phase.DB,
+                () -> databaseCallMetrics.record(STACK, procedureName(sql), key, () -> jdbcTemplate.execute(sql, action),
+                        JobTypeOperationEvent::rowsOf));
+    }
+
+    private static String procedureName(String sql) {
+        int start = sql.indexOf("PACK_TEST.");
+        int end = sql.indexOf('(', start);
+        return start < 0 || end < 0 ? "unknown" : sql.substring(start + "PACK_TEST.".length(), end);
+    }
+
+    private List<JobTypeResponse> readJobTypes(ResultSet rs) throws SQLException {
+        try (rs) {
+            List<JobTypeResponse> jobTypes = new ArrayList<>();
+            while (rs.next()) {
+                jobTypes.add(mapJobType(rs));
+            }
+            return jobTypes;
+        }
+    }
+
+    private static JobTypeResponse mapJobType(ResultSet rs) throws SQLException {
+        return JobTypeResponse.builder()
+            .pJobTypeId(rs.getLong("P_JOB_TYPE_ID"))
+            .code(rs.getString("CODE"))
+            .description(rs.getString("DESCRIPTION"))
+            .updateDate(rs.getTimestamp("UPDATE_DATE").toLocalDateTime())
+            .updateBy(rs.getString("UPDATE_BY"))
+            .version(rs.getLong("VERSION"))
+            .build();
+    }
+
+    public JobTypeCollectionStats getCollectionStats() {
+        try {
+            if (jobTypeCatalog.isEnabled()) {
+                requestTimings.flag(RequestTimings.CACHE, "catalog");
+                JobTypeCatalogSnapshot snapshot = jobTypeCatalog.current();
+                return new JobTypeCollectionStats(snapshot.size(), snapshot.maxUpdateDate());
+            }
+            return requestTimings.time(RequestTimings.Phase.DB, () -> databaseCallMetrics.record(STACK, "collection_stats", null, () -> jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*), MAX(UPDATE_DATE) FROM P_JOB_TYPE", (rs, rowNum) -> {
+                Timestamp maxUpdateDate = rs.getTimestamp(2);
+                return new JobTypeCollectionStats(rs.getLong(1),
+                        maxUpdateDate == null ? null : maxUpdateDate.toLocalDateTime());
+            })));
+        } catch (Exception e) {
+            throw new JobTypeServiceException("Failed to retrieve job type collection stats: " + e.getMessage(), e);
         }
     }
 
     public JobTypeResponse getJobTypeByCode(String code) {
+        return JobTypeOperationEvent.record(STACK, "view", "getJobTypeByCode", code, () -> {
+            JobTypeResponse cached = jobTypeCache.getByCode(code);
+            requestTimings.flag(RequestTimings.CACHE, cached != null ? "hit" : "miss");
+            if (cached != null) {
+                return cached;
+            }
+            long generation = jobTypeCache.generation();
+            return loadCoalescer.load("sp.byCode", code, generation, () -> {
+                JobTypeResponse response = loadJobTypeByCode(code);
+                jobTypeCache.put(generation, response);
+                return response;
+            });
+        });
+    }
+
+    private JobTypeResponse loadJobTypeByCode(String code) {
         try {
-            String sql = "{ call PACK_TEST.get_job_type_by_code(?, ?, ?, ?, ?) }";
+            String sql = "{ call PACK_TEST.get_job_type_by_code(?, ?, ?, ?, ?, ?) }";
             
-            return jdbcTemplate.execute(sql, (CallableStatement cs) -> {
+            return callProcedure(sql, code, (CallableStatement cs) -> {
                 try {
                     cs.setString(1, code);
                     cs.registerOutParameter(2, Types.NUMERIC);
                     cs.registerOutParameter(3, Types.VARCHAR);
                     cs.registerOutParameter(4, Types.TIMESTAMP);
                     cs.registerOutParameter(5, Types.VARCHAR);
+                    cs.registerOutParameter(6, Types.NUMERIC);
                     cs.execute();
                     
                     Long id = cs.getLong(2);
@@ -211,6 +616,7 @@ public class PJobTypeService {
                             .description(cs.getString(3))
                             .updateDate(cs.getTimestamp(4).toLocalDateTime())
                             .updateBy(cs.getString(5))
+                            .version(cs.getLong(6))
                             .build();
                 } catch (SQLException e) {
                     throw new RuntimeException("Failed to execute stored procedure: " + e.getMessage(), e);
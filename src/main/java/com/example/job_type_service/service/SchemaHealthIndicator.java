@@ -0,0 +1,32 @@
+package com.example.job_type_service.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports {@code schema} as out of service until {@link DatabaseInitializationService} has
+ * verified the schema. Part of the readiness group only, so a slow start never fails liveness.
+ */
+@Component
+public class SchemaHealthIndicator implements HealthIndicator {
+
+    private final DatabaseInitializationService databaseInitializationService;
+
+    public SchemaHealthIndicator(DatabaseInitializationService databaseInitializationService) {
+        this.databaseInitializationService = databaseInitializationService;
+    }
+
+    @Override
+    public Health health() {
+        DatabaseInitializationService.State state = databaseInitializationService.getState();
+        return switch (state) {
+            case READY -> Health.up().withDetail("state", state).build();
+            case PENDING -> Health.outOfService().withDetail("state", state).build();
+            case FAILED -> Health.down()
+                    .withDetail("state", state)
+                    .withDetail("error", String.valueOf(databaseInitializationService.getLastError()))
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.job_type_service.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies SQL scripts in order and records each one, with the SHA-256 of its contents, in
+ * {@code SCHEMA_MIGRATION_HISTORY}. The create script and the upgrade scripts are versioned: each
+ * runs exactly once, and an applied upgrade whose contents have changed fails the migration
+ * instead of being re-run. Repeatable scripts ({@code CREATE OR REPLACE} units such as
+ * {@code PACK_TEST}) are re-run when their checksum changes, together with every later repeatable.
+ * A boot against an unchanged schema issues no DDL.
+ */
+@Component
+public class SchemaMigrationRunner implements MeterBinder {
+
+    static final String HISTORY_TABLE = "SCHEMA_MIGRATION_HISTORY";
+
+    // Public so the offline profile's PackTestEmulator can translate these Oracle-only queries
+    public static final String PACKAGE_STATUS_QUERY =
+            "SELECT STATUS FROM USER_OBJECTS WHERE OBJECT_NAME = 'PACK_TEST' AND OBJECT_TYPE = ?";
+    public static final String PACKAGE_ERRORS_QUERY =
+            "SELECT LINE || ':' || POSITION || ' ' || TEXT FROM USER_ERRORS WHERE NAME = 'PACK_TEST' AND TYPE = ? ORDER BY SEQUENCE";
+
+    // ORA-00942: table or view does not exist
+    private static final int TABLE_NOT_FOUND = 942;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile MeterRegistry meterRegistry;
+    private volatile List<MigrationResult> lastReport = List.of();
+
+    public enum Kind {
+        // The target schema; runs once, on a schema that does not have its table yet
+        CREATE,
+        // Brings a schema created by an older create script up to date; runs once
+        UPGRADE,
+        // A CREATE OR REPLACE unit; runs again whenever its contents change
+        REPEATABLE
+    }
+
+    /**
+     * A migration script. {@code table} is the table a {@link Kind#CREATE} script creates, used to
+     * tell an empty schema from one that predates the migration history.
+     */
+    public record Script(String path, Kind kind, String table) {
+
+        public static Script create(String path, String table) {
+            return new Script(path, Kind.CREATE, table);
+        }
+
+        public static Script upgrade(String path) {
+            return new Script(path, Kind.UPGRADE, null);
+        }
+
+        public static Script repeatable(String path) {
+            return new Script(path, Kind.REPEATABLE, null);
+        }
+    }
+
+    // BASELINED: recorded without running, because the schema already has what the script does
+    public enum Outcome { APPLIED, BASELINED, SKIPPED, FAILED }
+
+    public record MigrationResult(String script, int version, Outcome outcome, long durationMillis) {
+    }
+
+    public SchemaMigrationRunner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Brings the schema up to date with {@code scripts}, in list order; a script's version is its
+     * 1-based position. The create script describes the target schema, so upgrades are baselined
+     * when it runs and run when it was applied earlier (or the schema predates the history, in
+     * which case the create script itself is baselined). Stops at the first script that fails so
+     * later ones are retried on the next boot.
+     */
+    public List<MigrationResult> migrate(List<Script> scripts) throws IOException {
+        Map<String, String> applied = appliedChecksums();
+        List<MigrationResult> report = new ArrayList<>(scripts.size());
+        boolean created = false;
+        boolean reapplyRepeatables = false;
+        for (int i = 0; i < scripts.size(); i++) {
+            Script script = scripts.get(i);
+            int version = i + 1;
+            long start = System.nanoTime();
+            byte[] content = read(script.path());
+            String checksum = checksum(content);
+            String recorded = applied.get(script.path());
+            Outcome outcome;
+            switch (script.kind()) {
+                case CREATE -> {
+                    // The create script changes along with every new upgrade, so its checksum is
+                    // not compared once the schema exists
+                    if (recorded != null) {
+                        outcome = Outcome.SKIPPED;
+                    } else if (tableExists(script.table())) {
+                        outcome = Outcome.BASELINED;
+                    } else {
+                        outcome = execute(script, content) ? Outcome.APPLIED : Outcome.FAILED;
+                        created = outcome == Outcome.APPLIED;
+                    }
+                }
+                case UPGRADE -> {
+                    if (recorded != null && !recorded.equals(checksum)) {
+                        System.out.println("Schema script " + script.path() + " changed after it was applied;"
+                                + " revert it and append a new upgrade script instead");
+                        outcome = Outcome.FAILED;
+                    } else if (recorded != null) {
+                        outcome = Outcome.SKIPPED;
+                    } else if (created) {
+                        outcome = Outcome.BASELINED;
+                    } else {
+                        outcome = execute(script, content) ? Outcome.APPLIED : Outcome.FAILED;
+                    }
+                }
+                default -> {
+                    if (!reapplyRepeatables && checksum.equals(recorded)) {
+                        outcome = Outcome.SKIPPED;
+                    } else {
+                        reapplyRepeatables = true;
+                        outcome = execute(script, content) ? Outcome.APPLIED : Outcome.FAILED;
+                    }
+                }
+            }
+            if (outcome == Outcome.APPLIED || outcome == Outcome.BASELINED) {
+                saveHistory(script.path(), version, checksum, recorded != null,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            report.add(record(script.path(), version, outcome, start));
+            if (outcome == Outcome.FAILED) {
+                break;
+            }
+        }
+        lastReport = List.copyOf(report);
+        return lastReport;
+    }
+
+    public List<MigrationResult> getLastReport() {
+        return lastReport;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        // Migrations usually run before meter binders are bound
+        for (MigrationResult result : lastReport) {
+            timer(registry, result.script(), result.outcome()).record(result.durationMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Map<String, String> appliedChecksums() {
+        Map<String, String> applied = new HashMap<>();
+        try {
+            jdbcTemplate.query("SELECT SCRIPT, CHECKSUM FROM " + HISTORY_TABLE,
+                    rs -> { applied.put(rs.getString(1), rs.getString(2)); });
+        } catch (DataAccessException e) {
+            if (oracleErrorCode(e) != TABLE_NOT_FOUND) {
+                throw e;
+            }
+            // First run against this schema: no history yet
+            jdbcTemplate.execute("CREATE TABLE " + HISTORY_TABLE + " ("
+                    + "SCRIPT VARCHAR2(256) NOT NULL, "
+                    + "VERSION NUMBER(10,0) NOT NULL, "
+                    + "CHECKSUM VARCHAR2(64) NOT NULL, "
+                    + "APPLIED_AT TIMESTAMP NOT NULL, "
+                    + "EXECUTION_MS NUMBER(19,0) NOT NULL, "
+                    + "CONSTRAINT PK_SCHEMA_MIGRATION_HISTORY PRIMARY KEY (SCRIPT))");
+        }
+        return applied;
+    }
+
+    private boolean tableExists(String table) {
+        try {
+            jdbcTemplate.queryForList("SELECT 1 FROM " + table + " WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            if (oracleErrorCode(e) != TABLE_NOT_FOUND) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    // Create and upgrade scripts run statement by statement and any error fails the script;
+    // repeatable scripts are one PL/SQL unit
+    private boolean execute(Script script, byte[] content) {
+        String sql = new String(content, StandardCharsets.UTF_8);
+        if (script.kind() == Kind.REPEATABLE) {
+            return compilePackage(script.path().contains("body") ? "PACKAGE BODY" : "PACKAGE", sql);
+        }
+        for (String statement : sql.split(";")) {
+            String trimmedStatement = statement.trim();
+            if (!trimmedStatement.isEmpty()) {
+                try {
+                    jdbcTemplate.execute(trimmedStatement);
+                } catch (DataAccessException e) {
+                    System.out.println("Statement execution failed: " + e.getMessage());
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // A PL/SQL compile error is only a warning (ORA-17110) on the CREATE, so the object's status
+    // is what tells whether the package is usable
+    private boolean compilePackage(String objectType, String sql) {
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (Exception e) {
+            System.out.println("Package execution warning: " + e.getMessage());
+            return false;
+        }
+        List<String> status = jdbcTemplate.queryForList(PACKAGE_STATUS_QUERY, String.class, objectType);
+        if (status.equals(List.of("VALID"))) {
+            return true;
+        }
+        System.out.println("PACK_TEST " + objectType.toLowerCase(Locale.ROOT) + " is "
+                + (status.isEmpty() ? "missing" : status.get(0)) + " after compiling: "
+                + jdbcTemplate.queryForList(PACKAGE_ERRORS_QUERY, String.class, objectType));
+        return false;
+    }
+
+    // The driver's SQLException is not always the root cause (ojdbc nests OracleDatabaseException)
+    private static int oracleErrorCode(DataAccessException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return sqlException.getErrorCode();
+            }
+        }
+        return -1;
+    }
+
+    private void saveHistory(String script, int version, String checksum, boolean exists, long executionMillis) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (exists) {
+            jdbcTemplate.update("UPDATE " + HISTORY_TABLE
+                            + " SET VERSION = ?, CHECKSUM = ?, APPLIED_AT = ?, EXECUTION_MS = ? WHERE SCRIPT = ?",
+                    version, checksum, now, executionMillis, script);
+        } else {
+            jdbcTemplate.update("INSERT INTO " + HISTORY_TABLE
+                            + " (SCRIPT, VERSION, CHECKSUM, APPLIED_AT, EXECUTION_MS) VALUES (?, ?, ?, ?, ?)",
+                    script, version, checksum, now, executionMillis);
+        }
+    }
+
+    private MigrationResult record(String script, int version, Outcome outcome, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            timer(registry, script, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+        MigrationResult result = new MigrationResult(script, version, outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        System.out.println("Schema script " + script + " (v" + version + "): " + outcome + " in "
+                + result.durationMillis() + " ms");
+        return result;
+    }
+
+    private static Timer timer(MeterRegistry registry, String script, Outcome outcome) {
+        return Timer.builder("jobtype.schema.migration")
+                .tag("script", script)
+                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                .description("Time taken to check or apply a schema script at startup")
+                .register(registry);
+    }
+
+    // Streams from the classpath so scripts packaged inside the boot jar can be read
+    private static byte[] read(String script) throws IOException {
+        try (InputStream in = new ClassPathResource(script).getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String checksum(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -15,17 +15,47 @@ CREATE OR REPLACE PACKAGE PACK_TEST AS
         p_update_by   IN P_JOB_TYPE.UPDATE_BY%TYPE
     );
 
+    -- Insert returning the persisted row (one round trip per write)
+    PROCEDURE insert_job_type_ret (
+        p_id              IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_code            IN  P_JOB_TYPE.CODE%TYPE,
+        p_description     IN  P_JOB_TYPE.DESCRIPTION%TYPE,
+        p_update_by       IN  P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_out_code        OUT P_JOB_TYPE.CODE%TYPE,
+        p_out_description OUT P_JOB_TYPE.DESCRIPTION%TYPE,
+        p_out_update_date OUT P_JOB_TYPE.UPDATE_DATE%TYPE,
+        p_out_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_out_version     OUT P_JOB_TYPE.VERSION%TYPE
+    );
+
+    -- Update returning the persisted row (one round trip per write); p_version carries the
+    -- expected version in (NULL skips the check, -20003 on mismatch) and the new version out
+    PROCEDURE update_job_type_ret (
+        p_id              IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_code            IN  P_JOB_TYPE.CODE%TYPE,
+        p_description     IN  P_JOB_TYPE.DESCRIPTION%TYPE,
+        p_update_by       IN  P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_out_code        OUT P_JOB_TYPE.CODE%TYPE,
+        p_out_description OUT P_JOB_TYPE.DESCRIPTION%TYPE,
+        p_out_update_date OUT P_JOB_TYPE.UPDATE_DATE%TYPE,
+        p_out_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_version         IN OUT P_JOB_TYPE.VERSION%TYPE
+    );
+
     -- View procedure (ambil berdasarkan ID)
     PROCEDURE view_job_type (
         p_id          IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
         p_code        OUT P_JOB_TYPE.CODE%TYPE,
         p_description OUT P_JOB_TYPE.DESCRIPTION%TYPE,
         p_update_date OUT P_JOB_TYPE.UPDATE_DATE%TYPE,
-        p_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE
+        p_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_version     OUT P_JOB_TYPE.VERSION%TYPE
     );
     
+    -- p_expected_version NULL deletes unconditionally; a mismatch raises -20003
     PROCEDURE delete_job_type (
-        p_id          IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE
+        p_id               IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_expected_version IN  P_JOB_TYPE.VERSION%TYPE DEFAULT NULL
     );
     
     -- Get all job types procedure
@@ -33,12 +63,28 @@ CREATE OR REPLACE PACKAGE PACK_TEST AS
         p_cursor      OUT SYS_REFCURSOR
     );
     
+    -- Keyset page ordered by ID; p_after_id NULL starts at the first row
+    PROCEDURE get_job_types_page (
+        p_after_id    IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_limit       IN  NUMBER,
+        p_cursor      OUT SYS_REFCURSOR
+    );
+
+    -- Keyset page ordered by CODE, P_JOB_TYPE_ID
+    PROCEDURE get_job_types_page_by_code (
+        p_after_code  IN  P_JOB_TYPE.CODE%TYPE,
+        p_after_id    IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_limit       IN  NUMBER,
+        p_cursor      OUT SYS_REFCURSOR
+    );
+    
     -- Get job type by code procedure
     PROCEDURE get_job_type_by_code (
         p_code        IN  P_JOB_TYPE.CODE%TYPE,
         p_id          OUT P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
         p_description OUT P_JOB_TYPE.DESCRIPTION%TYPE,
         p_update_date OUT P_JOB_TYPE.UPDATE_DATE%TYPE,
-        p_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE
+        p_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_version     OUT P_JOB_TYPE.VERSION%TYPE
     );
 END PACK_TEST;
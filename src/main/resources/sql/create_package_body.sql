@@ -1,5 +1,24 @@
 CREATE OR REPLACE PACKAGE BODY PACK_TEST AS
 
+    -- A versioned write that matched no row: -20003 if the row exists at another version,
+    -- otherwise the caller's not-found error
+    PROCEDURE raise_missing_or_stale (
+        p_id               IN P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_expected_version IN P_JOB_TYPE.VERSION%TYPE,
+        p_not_found_error  IN PLS_INTEGER
+    ) IS
+        v_count PLS_INTEGER;
+    BEGIN
+        IF p_expected_version IS NOT NULL THEN
+            SELECT COUNT(*) INTO v_count FROM P_JOB_TYPE WHERE P_JOB_TYPE_ID = p_id;
+            IF v_count > 0 THEN
+                RAISE_APPLICATION_ERROR(-20003, 'Data dengan ID ' || p_id || ' sudah diubah (versi ' || p_expected_version || ').');
+            END IF;
+        END IF;
+        RAISE_APPLICATION_ERROR(p_not_found_error, 'Data dengan ID ' || p_id || ' tidak ditemukan.');
+    END raise_missing_or_stale;
+
+
     PROCEDURE insert_job_type (
         p_id          IN P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
         p_code        IN P_JOB_TYPE.CODE%TYPE,
@@ -23,7 +42,8 @@ CREATE OR REPLACE PACKAGE BODY PACK_TEST AS
         SET CODE        = p_code,
             DESCRIPTION = p_description,
             UPDATE_DATE = SYSTIMESTAMP,
-            UPDATE_BY   = p_update_by
+            UPDATE_BY   = p_update_by,
+            VERSION     = VERSION + 1
         WHERE P_JOB_TYPE_ID = p_id;
        
         IF SQL%ROWCOUNT = 0 THEN
@@ -33,16 +53,66 @@ CREATE OR REPLACE PACKAGE BODY PACK_TEST AS
     END update_job_type;
 
 
+    PROCEDURE insert_job_type_ret (
+        p_id              IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_code            IN  P_JOB_TYPE.CODE%TYPE,
+        p_description     IN  P_JOB_TYPE.DESCRIPTION%TYPE,
+        p_update_by       IN  P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_out_code        OUT P_JOB_TYPE.CODE%TYPE,
+        p_out_description OUT P_JOB_TYPE.DESCRIPTION%TYPE,
+        p_out_update_date OUT P_JOB_TYPE.UPDATE_DATE%TYPE,
+        p_out_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_out_version     OUT P_JOB_TYPE.VERSION%TYPE
+    ) IS
+    BEGIN
+        INSERT INTO P_JOB_TYPE (P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY)
+        VALUES (p_id, p_code, p_description, SYSTIMESTAMP, p_update_by)
+        RETURNING CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
+        INTO p_out_code, p_out_description, p_out_update_date, p_out_update_by, p_out_version;
+    END insert_job_type_ret;
+
+
+    PROCEDURE update_job_type_ret (
+        p_id              IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_code            IN  P_JOB_TYPE.CODE%TYPE,
+        p_description     IN  P_JOB_TYPE.DESCRIPTION%TYPE,
+        p_update_by       IN  P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_out_code        OUT P_JOB_TYPE.CODE%TYPE,
+        p_out_description OUT P_JOB_TYPE.DESCRIPTION%TYPE,
+        p_out_update_date OUT P_JOB_TYPE.UPDATE_DATE%TYPE,
+        p_out_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_version         IN OUT P_JOB_TYPE.VERSION%TYPE
+    ) IS
+        v_expected_version P_JOB_TYPE.VERSION%TYPE := p_version;
+    BEGIN
+        UPDATE P_JOB_TYPE
+        SET CODE        = p_code,
+            DESCRIPTION = p_description,
+            UPDATE_DATE = SYSTIMESTAMP,
+            UPDATE_BY   = p_update_by,
+            VERSION     = VERSION + 1
+        WHERE P_JOB_TYPE_ID = p_id
+          AND (v_expected_version IS NULL OR VERSION = v_expected_version)
+        RETURNING CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
+        INTO p_out_code, p_out_description, p_out_update_date, p_out_update_by, p_version;
+
+        IF SQL%ROWCOUNT = 0 THEN
+            raise_missing_or_stale(p_id, v_expected_version, -20001);
+        END IF;
+    END update_job_type_ret;
+
+
     PROCEDURE view_job_type (
         p_id          IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
         p_code        OUT P_JOB_TYPE.CODE%TYPE,
         p_description OUT P_JOB_TYPE.DESCRIPTION%TYPE,
         p_update_date OUT P_JOB_TYPE.UPDATE_DATE%TYPE,
-        p_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE
+        p_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_version     OUT P_JOB_TYPE.VERSION%TYPE
     ) IS
     BEGIN
-        SELECT CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY
-        INTO   p_code, p_description, p_update_date, p_update_by
+        SELECT CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
+        INTO   p_code, p_description, p_update_date, p_update_by, p_version
         FROM   P_JOB_TYPE
         WHERE  P_JOB_TYPE_ID = p_id;
     EXCEPTION
@@ -51,16 +121,20 @@ CREATE OR REPLACE PACKAGE BODY PACK_TEST AS
             p_description := NULL;
             p_update_date := NULL;
             p_update_by   := NULL;
+            p_version     := NULL;
     END view_job_type;
 
     PROCEDURE delete_job_type (
-        p_id          IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE
+        p_id               IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_expected_version IN  P_JOB_TYPE.VERSION%TYPE DEFAULT NULL
     ) IS
     BEGIN
-        DELETE FROM P_JOB_TYPE WHERE P_JOB_TYPE_ID = p_id;
+        DELETE FROM P_JOB_TYPE
+        WHERE P_JOB_TYPE_ID = p_id
+          AND (p_expected_version IS NULL OR VERSION = p_expected_version);
         
         IF SQL%ROWCOUNT = 0 THEN
-            RAISE_APPLICATION_ERROR(-20002, 'Data dengan ID ' || p_id || ' tidak ditemukan.');
+            raise_missing_or_stale(p_id, p_expected_version, -20002);
         END IF;
     END delete_job_type;
 
@@ -69,21 +143,68 @@ CREATE OR REPLACE PACKAGE BODY PACK_TEST AS
     ) IS
     BEGIN
         OPEN p_cursor FOR
-            SELECT P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY
+            SELECT P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
             FROM P_JOB_TYPE
             ORDER BY P_JOB_TYPE_ID;
     END get_all_job_types;
 
+    PROCEDURE get_job_types_page (
+        p_after_id    IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_limit       IN  NUMBER,
+        p_cursor      OUT SYS_REFCURSOR
+    ) IS
+    BEGIN
+        IF p_after_id IS NULL THEN
+            OPEN p_cursor FOR
+                SELECT P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
+                FROM P_JOB_TYPE
+                ORDER BY P_JOB_TYPE_ID
+                FETCH FIRST p_limit ROWS ONLY;
+        ELSE
+            OPEN p_cursor FOR
+                SELECT P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
+                FROM P_JOB_TYPE
+                WHERE P_JOB_TYPE_ID > p_after_id
+                ORDER BY P_JOB_TYPE_ID
+                FETCH FIRST p_limit ROWS ONLY;
+        END IF;
+    END get_job_types_page;
+
+    PROCEDURE get_job_types_page_by_code (
+        p_after_code  IN  P_JOB_TYPE.CODE%TYPE,
+        p_after_id    IN  P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
+        p_limit       IN  NUMBER,
+        p_cursor      OUT SYS_REFCURSOR
+    ) IS
+    BEGIN
+        IF p_after_code IS NULL THEN
+            OPEN p_cursor FOR
+                SELECT P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
+                FROM P_JOB_TYPE
+                ORDER BY CODE, P_JOB_TYPE_ID
+                FETCH FIRST p_limit ROWS ONLY;
+        ELSE
+            OPEN p_cursor FOR
+                SELECT P_JOB_TYPE_ID, CODE, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
+                FROM P_JOB_TYPE
+                WHERE CODE > p_after_code
+                   OR (CODE = p_after_code AND P_JOB_TYPE_ID > p_after_id)
+                ORDER BY CODE, P_JOB_TYPE_ID
+                FETCH FIRST p_limit ROWS ONLY;
+        END IF;
+    END get_job_types_page_by_code;
+
     PROCEDURE get_job_type_by_code (
         p_code        IN  P_JOB_TYPE.CODE%TYPE,
         p_id          OUT P_JOB_TYPE.P_JOB_TYPE_ID%TYPE,
         p_description OUT P_JOB_TYPE.DESCRIPTION%TYPE,
         p_update_date OUT P_JOB_TYPE.UPDATE_DATE%TYPE,
-        p_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE
+        p_update_by   OUT P_JOB_TYPE.UPDATE_BY%TYPE,
+        p_version     OUT P_JOB_TYPE.VERSION%TYPE
     ) IS
     BEGIN
-        SELECT P_JOB_TYPE_ID, DESCRIPTION, UPDATE_DATE, UPDATE_BY
-        INTO   p_id, p_description, p_update_date, p_update_by
+        SELECT P_JOB_TYPE_ID, DESCRIPTION, UPDATE_DATE, UPDATE_BY, VERSION
+        INTO   p_id, p_description, p_update_date, p_update_by, p_version
         FROM   P_JOB_TYPE
         WHERE  CODE = p_code;
     EXCEPTION
@@ -92,6 +213,7 @@ CREATE OR REPLACE PACKAGE BODY PACK_TEST AS
             p_description := NULL;
             p_update_date := NULL;
             p_update_by   := NULL;
+            p_version     := NULL;
     END get_job_type_by_code;
 
 END PACK_TEST;
@@ -1,7 +1,7 @@
--- Create sequence for P_JOB_TYPE_ID
+-- Create sequence for P_JOB_TYPE_ID: each NEXTVAL reserves a block of 50 IDs (pooled-lo)
 CREATE SEQUENCE SEQ_P_JOB_TYPE
 START WITH 1
-INCREMENT BY 1
+INCREMENT BY 50
 NOCACHE
 NOCYCLE;
 
@@ -10,10 +10,14 @@ CREATE TABLE P_JOB_TYPE (
     P_JOB_TYPE_ID NUMBER(38,0) NOT NULL,
     CODE VARCHAR2(128) NOT NULL,
     DESCRIPTION VARCHAR2(512),
-    UPDATE_DATE TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UPDATE_DATE TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
     UPDATE_BY VARCHAR2(128) NOT NULL,
+    VERSION NUMBER(19,0) DEFAULT 0 NOT NULL,
     CONSTRAINT PK_P_JOB_TYPE PRIMARY KEY (P_JOB_TYPE_ID)
 );
 
 -- Create unique index on CODE
 CREATE UNIQUE INDEX UK_P_JOB_TYPE_CODE ON P_JOB_TYPE (CODE);
+
+-- Index on UPDATE_DATE so MAX(UPDATE_DATE) and watermark refreshes avoid a full table scan
+CREATE INDEX IDX_P_JOB_TYPE_UPDATE_DATE ON P_JOB_TYPE (UPDATE_DATE);
@@ -0,0 +1,2 @@
+-- Databases created with INCREMENT BY 1: switch to 50-ID blocks (pooled-lo), the next block starts past every issued ID
+ALTER SEQUENCE SEQ_P_JOB_TYPE INCREMENT BY 50;
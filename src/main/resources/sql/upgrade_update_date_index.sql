@@ -0,0 +1,2 @@
+-- Databases created before the UPDATE_DATE index: MAX(UPDATE_DATE) and watermark refreshes avoid a full table scan
+CREATE INDEX IDX_P_JOB_TYPE_UPDATE_DATE ON P_JOB_TYPE (UPDATE_DATE);
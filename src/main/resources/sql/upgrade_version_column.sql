@@ -0,0 +1,2 @@
+-- Databases created before P_JOB_TYPE had VERSION: optimistic-lock version, bumped by every update
+ALTER TABLE P_JOB_TYPE ADD (VERSION NUMBER(19,0) DEFAULT 0 NOT NULL);
@@ -0,0 +1,144 @@
+package com.example.job_type_service;
+
+import com.example.job_type_service.service.DatabaseInitializationService;
+import com.example.job_type_service.service.JobTypeIdAllocator;
+import com.example.job_type_service.service.SchemaMigrationRunner;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Boots the {@code offline} profile and drives both stacks through MockMvc, with the catalog off
+ * so list and page reads go through the emulated {@code PACK_TEST} cursors and Hibernate.
+ */
+@SpringBootTest(properties = {
+        "job-type.offline.seed.rows=120",
+        "job-type.catalog.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("offline")
+class OfflineProfileTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DatabaseInitializationService databaseInitializationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void awaitSchema() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30000;
+        while (!databaseInitializationService.isReady() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(databaseInitializationService.isReady(), "schema not ready: " + databaseInitializationService.getLastError());
+    }
+
+    @Test
+    void storedProcedureStack_RunsAgainstEmulatedPackTest() throws Exception {
+        mockMvc.perform(get("/api/job-types/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("EXPORT_0000001"))
+                .andExpect(jsonPath("$.version").value(0));
+        mockMvc.perform(get("/api/job-types/code/BATCH_0000008"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pjobTypeId").value(8));
+
+        String created = mockMvc.perform(post("/api/job-types")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"OFFLINE_SP\",\"description\":\"Offline\",\"updateBy\":\"test\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(created, "$.pjobTypeId")).longValue();
+        assertTrue(id > 120, "ID " + id + " collides with the seeded rows");
+
+        mockMvc.perform(put("/api/job-types/{id}", id)
+                        .header("If-Match", "\"" + id + "-v5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"OFFLINE_SP\",\"description\":\"Stale\",\"updateBy\":\"test\"}"))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/api/job-types/{id}", id)
+                        .header("If-Match", "\"" + id + "-v0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"OFFLINE_SP\",\"description\":\"Updated\",\"updateBy\":\"test\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(post("/api/job-types/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\":[{\"code\":\"OFFLINE_BULK\",\"updateBy\":\"test\"},"
+                                + "{\"code\":\"EXPORT_0000001\",\"updateBy\":\"test\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.results[1].error").value("Job type with code 'EXPORT_0000001' already exists"));
+
+        mockMvc.perform(get("/api/job-types"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.code == 'OFFLINE_BULK')]").isNotEmpty());
+        mockMvc.perform(get("/api/job-types/page").param("size", "50").param("sort", "code"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(50))
+                .andExpect(jsonPath("$.items[0].code").value("AUDIT_0000007"));
+
+        mockMvc.perform(delete("/api/job-types/{id}", id))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/job-types/{id}", id))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void jpaStack_RunsAgainstTheSameSchema() throws Exception {
+        mockMvc.perform(get("/api/v2/job-types/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("IMPORT_0000002"));
+        mockMvc.perform(post("/api/v2/job-types")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"code\":\"OFFLINE_JPA\",\"description\":\"Offline\",\"updateBy\":\"test\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/v2/job-types/code/OFFLINE_JPA"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Offline"));
+        mockMvc.perform(get("/api/v2/job-types/page").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(10))
+                .andExpect(jsonPath("$.items[0].pjobTypeId").value(1));
+    }
+
+    // H2 rejects each of these as sent, so a query that no longer matches its translation fails here
+    @Test
+    void oracleOnlyQueries_AreTranslated() throws Exception {
+        assertEquals(50L, jdbcTemplate.queryForObject(JobTypeIdAllocator.INCREMENT_QUERY, Long.class));
+        assertEquals(2, jdbcTemplate.queryForList(JobTypeIdAllocator.NEXT_BLOCKS_QUERY, Long.class, 2).size());
+        assertEquals(List.of("VALID"),
+                jdbcTemplate.queryForList(SchemaMigrationRunner.PACKAGE_STATUS_QUERY, String.class, "PACKAGE BODY"));
+        assertEquals(List.of(),
+                jdbcTemplate.queryForList(SchemaMigrationRunner.PACKAGE_ERRORS_QUERY, String.class, "PACKAGE BODY"));
+
+        mockMvc.perform(get("/api/database/info"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("success"))
+                .andExpect(jsonPath("$.version").value(startsWith("H2 ")))
+                .andExpect(jsonPath("$.p_job_type_table_exists").value(true))
+                .andExpect(jsonPath("$.seq_p_job_type_exists").value(true))
+                .andExpect(jsonPath("$.pack_test_exists").value(true));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.event.JobTypeChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobTypeCacheTest {
+
+    private static JobTypeResponse jobType(long id, String code) {
+        return JobTypeResponse.builder()
+                .pJobTypeId(id)
+                .code(code)
+                .description(code + " description")
+                .updateDate(LocalDateTime.now())
+                .updateBy("admin")
+                .build();
+    }
+
+    @Test
+    void put_IndexesEntryUnderIdAndCode() {
+        JobTypeCache cache = new JobTypeCache(10);
+        JobTypeResponse fullTime = jobType(1L, "FULL_TIME");
+
+        cache.put(cache.generation(), fullTime);
+
+        assertSame(fullTime, cache.getById(1L));
+        assertSame(fullTime, cache.getByCode("FULL_TIME"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void put_CodeChangeDropsOldCodeIndex() {
+        JobTypeCache cache = new JobTypeCache(10);
+        cache.put(cache.generation(), jobType(1L, "FULL_TIME"));
+
+        cache.put(cache.generation(), jobType(1L, "PART_TIME"));
+
+        assertNull(cache.getByCode("FULL_TIME"));
+        assertEquals("PART_TIME", cache.getById(1L).getCode());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void put_StaleGenerationIsDropped() {
+        JobTypeCache cache = new JobTypeCache(10);
+        long generation = cache.generation();
+
+        cache.invalidate(1L, null);
+        cache.put(generation, jobType(1L, "FULL_TIME"));
+
+        assertNull(cache.getById(1L));
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void put_BeyondMaxSizeEvictsOldestEntry() {
+        JobTypeCache cache = new JobTypeCache(2);
+        cache.put(cache.generation(), jobType(1L, "A"));
+        cache.put(cache.generation(), jobType(2L, "B"));
+        cache.put(cache.generation(), jobType(3L, "C"));
+
+        assertNull(cache.getById(1L));
+        assertNull(cache.getByCode("A"));
+        assertNotNull(cache.getById(3L));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void onJobTypeChanged_DeleteByCodeRemovesBothIndexes() {
+        JobTypeCache cache = new JobTypeCache(10);
+        cache.put(cache.generation(), jobType(1L, "FULL_TIME"));
+
+        cache.onJobTypeChanged(JobTypeChangedEvent.deleted(null, "FULL_TIME"));
+
+        assertNull(cache.getById(1L));
+        assertNull(cache.getByCode("FULL_TIME"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void onJobTypeChanged_UpdateRemovesEntryCachedUnderOldCode() {
+        JobTypeCache cache = new JobTypeCache(10);
+        cache.put(cache.generation(), jobType(1L, "FULL_TIME"));
+
+        cache.onJobTypeChanged(JobTypeChangedEvent.saved(jobType(1L, "PART_TIME")));
+
+        assertNull(cache.getByCode("FULL_TIME"));
+        assertNull(cache.getById(1L));
+    }
+}
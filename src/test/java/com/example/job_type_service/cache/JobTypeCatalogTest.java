@@ -0,0 +1,187 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.entity.PJobType;
+import com.example.job_type_service.event.JobTypeChangedEvent;
+import com.example.job_type_service.event.JobTypesDeletedEvent;
+import com.example.job_type_service.repository.PJobTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobTypeCatalogTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Mock
+    private PJobTypeRepository jobTypeRepository;
+
+    private JobTypeCatalog jobTypeCatalog;
+
+    @BeforeEach
+    void setUp() {
+        jobTypeCatalog = new JobTypeCatalog(jobTypeRepository, true, 60_000);
+    }
+
+    private static PJobType jobType(long id, String code, LocalDateTime updateDate) {
+        PJobType jobType = new PJobType();
+        jobType.setPJobTypeId(id);
+        jobType.setCode(code);
+        jobType.setDescription(code + " description");
+        jobType.setUpdateDate(updateDate);
+        jobType.setUpdateBy("admin");
+        return jobType;
+    }
+
+    @Test
+    void current_FirstReadLoadsWholeTableOnce() {
+        when(jobTypeRepository.findAll()).thenReturn(List.of(
+                jobType(2L, "A_CODE", BASE_TIME),
+                jobType(1L, "B_CODE", BASE_TIME.plusMinutes(5))));
+
+        JobTypeCatalogSnapshot snapshot = jobTypeCatalog.current();
+
+        assertSame(snapshot, jobTypeCatalog.current());
+        assertEquals(List.of(1L, 2L), snapshot.orderedById().stream().map(JobTypeResponse::getPJobTypeId).toList());
+        assertEquals("A_CODE", snapshot.orderedByCode().get(0).getCode());
+        assertEquals("B_CODE", snapshot.orderedByUpdateDateDesc().get(0).getCode());
+        assertEquals(BASE_TIME.plusMinutes(5), snapshot.watermark());
+        verify(jobTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void refresh_MergesRowsPastWatermarkWithoutFullReload() {
+        when(jobTypeRepository.findAll()).thenReturn(List.of(jobType(1L, "FULL_TIME", BASE_TIME)));
+        JobTypeCatalogSnapshot initial = jobTypeCatalog.current();
+        when(jobTypeRepository.findByUpdateDateAfter(BASE_TIME.minusMinutes(1)))
+                .thenReturn(List.of(jobType(2L, "PART_TIME", BASE_TIME.plusMinutes(1))));
+        when(jobTypeRepository.count()).thenReturn(2L);
+
+        jobTypeCatalog.refresh();
+
+        JobTypeCatalogSnapshot refreshed = jobTypeCatalog.current();
+        assertEquals(2, refreshed.size());
+        assertTrue(refreshed.version() > initial.version());
+        assertEquals(BASE_TIME.plusMinutes(1), refreshed.watermark());
+        verify(jobTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void refresh_UnchangedRowsKeepSnapshotVersion() {
+        when(jobTypeRepository.findAll()).thenReturn(List.of(jobType(1L, "FULL_TIME", BASE_TIME)));
+        JobTypeCatalogSnapshot initial = jobTypeCatalog.current();
+        when(jobTypeRepository.findByUpdateDateAfter(any())).thenReturn(List.of(jobType(1L, "FULL_TIME", BASE_TIME)));
+        when(jobTypeRepository.count()).thenReturn(1L);
+
+        jobTypeCatalog.refresh();
+
+        assertSame(initial, jobTypeCatalog.current());
+    }
+
+    @Test
+    void refresh_NewVersionOfOtherwiseEqualRowReplacesIt() {
+        when(jobTypeRepository.findAll()).thenReturn(List.of(jobType(1L, "FULL_TIME", BASE_TIME)));
+        jobTypeCatalog.current();
+        PJobType bumped = jobType(1L, "FULL_TIME", BASE_TIME);
+        bumped.setVersion(1L);
+        when(jobTypeRepository.findByUpdateDateAfter(any())).thenReturn(List.of(bumped));
+        when(jobTypeRepository.count()).thenReturn(1L);
+
+        jobTypeCatalog.refresh();
+
+        assertEquals(1L, jobTypeCatalog.current().get(1L).getVersion());
+    }
+
+    @Test
+    void refresh_RowCountMismatchTriggersFullReload() {
+        when(jobTypeRepository.findAll())
+                .thenReturn(List.of(jobType(1L, "FULL_TIME", BASE_TIME), jobType(2L, "PART_TIME", BASE_TIME)))
+                .thenReturn(List.of(jobType(1L, "FULL_TIME", BASE_TIME)));
+        jobTypeCatalog.current();
+        when(jobTypeRepository.findByUpdateDateAfter(any())).thenReturn(List.of());
+        when(jobTypeRepository.count()).thenReturn(1L);
+
+        jobTypeCatalog.refresh();
+
+        assertEquals(1, jobTypeCatalog.current().size());
+        verify(jobTypeRepository, times(2)).findAll();
+    }
+
+    @Test
+    void refresh_LocalWriteDuringQueryIsKeptAndQueryRerun() {
+        when(jobTypeRepository.findAll()).thenReturn(List.of(jobType(1L, "FULL_TIME", BASE_TIME)));
+        jobTypeCatalog.current();
+        JobTypeResponse saved = JobTypeResponse.builder()
+                .pJobTypeId(2L).code("PART_TIME").updateDate(BASE_TIME.plusMinutes(1)).updateBy("admin").build();
+        when(jobTypeRepository.findByUpdateDateAfter(any()))
+                .thenAnswer(invocation -> {
+                    jobTypeCatalog.onJobTypeChanged(JobTypeChangedEvent.saved(saved));
+                    return List.of();
+                })
+                .thenReturn(List.of());
+        when(jobTypeRepository.count()).thenReturn(2L);
+
+        jobTypeCatalog.refresh();
+
+        assertEquals(List.of(1L, 2L), jobTypeCatalog.current().orderedById().stream().map(JobTypeResponse::getPJobTypeId).toList());
+        verify(jobTypeRepository, times(2)).findByUpdateDateAfter(any());
+        verify(jobTypeRepository, times(1)).findAll();
+    }
+
+    @Test
+    void onJobTypeChanged_AppliesLocalWritesCopyOnWrite() {
+        when(jobTypeRepository.findAll()).thenReturn(List.of(jobType(1L, "FULL_TIME", BASE_TIME)));
+        JobTypeCatalogSnapshot initial = jobTypeCatalog.current();
+        JobTypeResponse saved = JobTypeResponse.builder()
+                .pJobTypeId(2L).code("PART_TIME").updateDate(BASE_TIME.plusMinutes(1)).updateBy("admin").build();
+
+        jobTypeCatalog.onJobTypeChanged(JobTypeChangedEvent.saved(saved));
+        jobTypeCatalog.onJobTypeChanged(JobTypeChangedEvent.deleted(null, "FULL_TIME"));
+
+        assertEquals(1, initial.size());
+        assertEquals(List.of(saved), jobTypeCatalog.current().orderedById());
+        assertEquals(BASE_TIME, jobTypeCatalog.current().watermark());
+    }
+
+    @Test
+    void onJobTypesDeleted_RemovesAllKeysInOneSnapshot() {
+        when(jobTypeRepository.findAll()).thenReturn(List.of(
+                jobType(1L, "A_CODE", BASE_TIME),
+                jobType(2L, "B_CODE", BASE_TIME),
+                jobType(3L, "C_CODE", BASE_TIME)));
+        long initialVersion = jobTypeCatalog.current().version();
+
+        jobTypeCatalog.onJobTypesDeleted(new JobTypesDeletedEvent(Set.of(1L, 99L), Set.of("C_CODE")));
+
+        assertEquals(List.of(2L), jobTypeCatalog.current().orderedById().stream().map(JobTypeResponse::getPJobTypeId).toList());
+        assertEquals(initialVersion + 1, jobTypeCatalog.current().version());
+    }
+
+    @Test
+    void snapshotPages_SeekPastLastKey() {
+        when(jobTypeRepository.findAll()).thenReturn(List.of(
+                jobType(1L, "C_CODE", BASE_TIME),
+                jobType(2L, "A_CODE", BASE_TIME),
+                jobType(3L, "B_CODE", BASE_TIME)));
+
+        JobTypeCatalogSnapshot snapshot = jobTypeCatalog.current();
+
+        assertEquals(List.of(2L, 3L), snapshot.pageById(1L, 5).stream().map(JobTypeResponse::getPJobTypeId).toList());
+        assertEquals(List.of(1L), snapshot.pageById(null, 1).stream().map(JobTypeResponse::getPJobTypeId).toList());
+        assertEquals(List.of("B_CODE", "C_CODE"),
+                snapshot.pageByCode("A_CODE", 2L, 5).stream().map(JobTypeResponse::getCode).toList());
+        assertEquals(List.of("C_CODE"),
+                snapshot.pageByCode("B_CODE", 99L, 5).stream().map(JobTypeResponse::getCode).toList());
+    }
+}
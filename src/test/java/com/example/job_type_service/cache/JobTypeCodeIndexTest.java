@@ -0,0 +1,94 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.exception.JobTypeServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobTypeCodeIndexTest {
+
+    @Mock
+    private JobTypeCatalog jobTypeCatalog;
+
+    private JobTypeCodeIndex codeIndex;
+
+    @BeforeEach
+    void setUp() {
+        codeIndex = new JobTypeCodeIndex(jobTypeCatalog, 10, 50);
+    }
+
+    private static JobTypeResponse jobType(long id, String code) {
+        return JobTypeResponse.builder().pJobTypeId(id).code(code).description(code).updateBy("admin").build();
+    }
+
+    private static List<Long> ids(List<JobTypeResponse> rows) {
+        return rows.stream().map(JobTypeResponse::getPJobTypeId).toList();
+    }
+
+    @Test
+    void suggest_MatchesPrefixIgnoringCaseInCodeOrder() {
+        when(jobTypeCatalog.current()).thenReturn(JobTypeCatalogSnapshot.of(1, List.of(
+                jobType(1L, "PART_TIME"),
+                jobType(2L, "FULL_TIME"),
+                jobType(3L, "full_day"),
+                jobType(4L, "FREELANCE"),
+                jobType(5L, "PARTNER"))));
+
+        assertEquals(List.of(3L, 2L), ids(codeIndex.suggest("Full", 10)));
+        assertEquals(List.of(1L), ids(codeIndex.suggest(" part_", 10)));
+        assertEquals(List.of(5L), ids(codeIndex.suggest("PARTN", 10)));
+        assertEquals(List.of(4L, 3L), ids(codeIndex.suggest("", 2)));
+        assertEquals(List.of(), codeIndex.suggest("zzz", 10));
+        assertThrows(JobTypeServiceException.class, () -> codeIndex.suggest("x".repeat(129), 10));
+    }
+
+    @Test
+    void syncWithCatalog_MergesInsertsUpdatesAndDeletes() {
+        JobTypeCatalogSnapshot initial = JobTypeCatalogSnapshot.of(1, List.of(
+                jobType(1L, "ALPHA"), jobType(2L, "BETA"), jobType(3L, "GAMMA")));
+        when(jobTypeCatalog.current()).thenReturn(initial);
+        assertEquals(List.of(1L, 2L, 3L), ids(codeIndex.suggest("", 10)));
+
+        JobTypeCatalogSnapshot changed = initial
+                .withSaved(2, jobType(1L, "OMEGA"))
+                .withSaved(3, jobType(4L, "BRAVO"))
+                .withSaved(4, jobType(5L, "ZULU"))
+                .withDeleted(5, 3L, null);
+        when(jobTypeCatalog.current()).thenReturn(changed);
+
+        assertEquals(List.of(2L, 4L, 1L, 5L), ids(codeIndex.suggest("", 10)));
+        assertEquals(List.of(), codeIndex.suggest("al", 10));
+        assertEquals(4, codeIndex.size());
+    }
+
+    @Test
+    void syncWithCatalog_MergedCodesThatFoldAlikeStayInIdOrder() {
+        JobTypeCatalogSnapshot initial = JobTypeCatalogSnapshot.of(1, List.of(
+                jobType(2L, "BETA"), jobType(5L, "Beta"), jobType(7L, "GAMMA")));
+        when(jobTypeCatalog.current()).thenReturn(initial);
+        codeIndex.suggest("", 10);
+
+        when(jobTypeCatalog.current()).thenReturn(initial
+                .withSaved(2, jobType(1L, "beta"))
+                .withSaved(3, jobType(6L, "bEtA"))
+                .withSaved(4, jobType(7L, "beta")));
+
+        assertEquals(List.of(1L, 2L, 5L, 6L, 7L), ids(codeIndex.suggest("BET", 10)));
+    }
+
+    @Test
+    void resolveLimit_DefaultsAndCapsRequestedLimit() {
+        assertEquals(10, codeIndex.resolveLimit(null));
+        assertEquals(50, codeIndex.resolveLimit(1000));
+        assertThrows(JobTypeServiceException.class, () -> codeIndex.resolveLimit(0));
+    }
+}
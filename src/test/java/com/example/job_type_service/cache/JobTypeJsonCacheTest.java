@@ -0,0 +1,83 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.event.JobTypeChangedEvent;
+import com.example.job_type_service.repository.RequestTimings;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobTypeJsonCacheTest {
+
+    private final JobTypeJsonCache cache = new JobTypeJsonCache(Jackson2ObjectMapperBuilder.json().build(), new RequestTimings(false), 2);
+
+    private static JobTypeResponse jobType(long id, String code) {
+        return JobTypeResponse.builder()
+                .pJobTypeId(id)
+                .code(code)
+                .description(code + " description")
+                .updateDate(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .updateBy("admin")
+                .build();
+    }
+
+    @Test
+    void collection_SameETagReusesBytesWithoutLoading() {
+        AtomicInteger loads = new AtomicInteger();
+
+        EncodedJson first = cache.collection("v1", "\"c1-a\"", () -> {
+            loads.incrementAndGet();
+            return List.of(jobType(1L, "FULL_TIME"));
+        });
+        EncodedJson second = cache.collection("v1", "\"c1-a\"", () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void collection_NewETagReEncodes() {
+        cache.collection("v1", "\"c1-a\"", () -> List.of(jobType(1L, "FULL_TIME")));
+
+        EncodedJson updated = cache.collection("v1", "\"c2-b\"",
+                () -> List.of(jobType(1L, "FULL_TIME"), jobType(2L, "PART_TIME")));
+
+        assertEquals("\"c2-b\"", updated.eTag());
+        assertTrue(new String(updated.json()).contains("PART_TIME"));
+    }
+
+    @Test
+    void onJobTypeChanged_DropsCollectionsAndChangedItem() {
+        JobTypeResponse fullTime = jobType(1L, "FULL_TIME");
+        EncodedJson item = cache.item("\"1-a\"", fullTime);
+        EncodedJson collection = cache.collection("v1", "\"c1-a\"", () -> List.of(fullTime));
+
+        cache.onJobTypeChanged(JobTypeChangedEvent.deleted(1L, "FULL_TIME"));
+
+        assertNotSame(item, cache.item("\"1-a\"", fullTime));
+        assertNotSame(collection, cache.collection("v1", "\"c1-a\"", () -> List.of(fullTime)));
+    }
+
+    @Test
+    void gzip_RoundTripsToSameJson() throws IOException {
+        EncodedJson item = cache.item("\"1-a\"", jobType(1L, "FULL_TIME"));
+
+        byte[] gzip = item.gzip();
+
+        assertSame(gzip, item.gzip());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(item.json(), in.readAllBytes());
+        }
+    }
+}
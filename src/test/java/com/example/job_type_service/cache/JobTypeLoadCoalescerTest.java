@@ -0,0 +1,90 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.exception.JobTypeNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobTypeLoadCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final JobTypeLoadCoalescer coalescer = new JobTypeLoadCoalescer();
+
+    // Holds the leader's load open until every other caller has joined it
+    private List<Future<String>> concurrentLoads(ExecutorService executor, AtomicInteger loads, RuntimeException failure)
+            throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescer.load("byId", 1L, 0, () -> {
+                loads.incrementAndGet();
+                awaitUninterruptibly(release);
+                if (failure != null) {
+                    throw failure;
+                }
+                return "FULL_TIME";
+            })));
+        }
+        while (coalescer.getExecutedCount() + coalescer.getCoalescedCount() < CALLERS) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+        return results;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void load_ConcurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<String> result : concurrentLoads(executor, loads, null)) {
+                assertEquals("FULL_TIME", result.get(10, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, coalescer.getExecutedCount());
+        assertEquals(CALLERS - 1, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    void load_FailureReachesEveryWaiter() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        JobTypeNotFoundException notFound = new JobTypeNotFoundException("Job type with ID 1 not found");
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<String> result : concurrentLoads(executor, loads, notFound)) {
+                Exception thrown = assertThrows(Exception.class, () -> result.get(10, TimeUnit.SECONDS));
+                assertSame(notFound, thrown.getCause());
+            }
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void load_NewGenerationOrFinishedFlightLoadsAgain() {
+        assertEquals("a", coalescer.load("byId", 1L, 0, () -> "a"));
+        assertEquals("b", coalescer.load("byId", 1L, 0, () -> "b"));
+        assertEquals("c", coalescer.load("byId", 1L, 1, () -> coalescer.load("byId", 1L, 2, () -> "c")));
+
+        assertEquals(4, coalescer.getExecutedCount());
+        assertEquals(0, coalescer.getCoalescedCount());
+    }
+}
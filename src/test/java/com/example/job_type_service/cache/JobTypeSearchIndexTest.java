@@ -0,0 +1,115 @@
+package com.example.job_type_service.cache;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.exception.JobTypeServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobTypeSearchIndexTest {
+
+    @Mock
+    private JobTypeCatalog jobTypeCatalog;
+
+    private JobTypeSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new JobTypeSearchIndex(jobTypeCatalog, 10, 50);
+    }
+
+    private static JobTypeResponse jobType(long id, String code, String description) {
+        return JobTypeResponse.builder().pJobTypeId(id).code(code).description(description).updateBy("admin").build();
+    }
+
+    private static List<Long> ids(List<JobTypeResponse> rows) {
+        return rows.stream().map(JobTypeResponse::getPJobTypeId).toList();
+    }
+
+    @Test
+    void search_RanksCodeMatchesBeforeDescriptionMatches() {
+        when(jobTypeCatalog.current()).thenReturn(JobTypeCatalogSnapshot.of(1, List.of(
+                jobType(1L, "PART_TIME", "Part-time employment"),
+                jobType(2L, "TIMESHEET", "Hourly contract"),
+                jobType(3L, "CONTRACT", "Short TIME engagement"),
+                jobType(4L, "FULL_TIME", "Full-time employment"),
+                jobType(5L, "INTERN", "Internship"))));
+
+        assertEquals(List.of(2L, 1L, 4L, 3L), ids(searchIndex.search("Time", 10)));
+        assertEquals(List.of(2L, 1L), ids(searchIndex.search("time", 2)));
+        assertEquals(List.of(5L), ids(searchIndex.search("nsh", 10)));
+        assertEquals(List.of(), searchIndex.search("salaried", 10));
+        assertThrows(JobTypeServiceException.class, () -> searchIndex.search(" ", 10));
+    }
+
+    @Test
+    void search_ShortQueriesFallBackToScanningDocuments() {
+        when(jobTypeCatalog.current()).thenReturn(JobTypeCatalogSnapshot.of(1, List.of(
+                jobType(1L, "A1", "Grade one"),
+                jobType(2L, "B2", "Grade two"))));
+
+        assertEquals(List.of(2L), ids(searchIndex.search("b2", 10)));
+        assertEquals(List.of(1L, 2L), ids(searchIndex.search("g", 10)));
+    }
+
+    @Test
+    void syncWithCatalog_AppliesInsertsUpdatesAndDeletes() {
+        JobTypeResponse fullTime = jobType(1L, "FULL_TIME", "Full-time employment");
+        JobTypeCatalogSnapshot initial = JobTypeCatalogSnapshot.of(1, List.of(fullTime, jobType(2L, "PART_TIME", "Part-time")));
+        when(jobTypeCatalog.current()).thenReturn(initial);
+        assertEquals(List.of(1L), ids(searchIndex.search("employ", 10)));
+        long initialBytes = searchIndex.estimatedBytes();
+
+        JobTypeCatalogSnapshot changed = initial
+                .withSaved(2, jobType(1L, "FULL_TIME", "Permanent position"))
+                .withSaved(3, jobType(3L, "SEASONAL", "Seasonal employment"))
+                .withDeleted(4, 2L, null);
+        when(jobTypeCatalog.current()).thenReturn(changed);
+
+        assertEquals(List.of(3L), ids(searchIndex.search("employ", 10)));
+        assertEquals(List.of(1L), ids(searchIndex.search("permanent", 10)));
+        assertEquals(List.of(), searchIndex.search("part", 10));
+        assertEquals(2, searchIndex.documentCount());
+        assertTrue(searchIndex.estimatedBytes() > 0 && searchIndex.estimatedBytes() != initialBytes);
+    }
+
+    @Test
+    void syncWithCatalog_IncrementalChangesMatchAFullBuild() {
+        JobTypeCatalogSnapshot initial = JobTypeCatalogSnapshot.of(1, List.of(
+                jobType(1L, "FULL_TIME", "Full-time employment"),
+                jobType(2L, "PART_TIME", "Part-time employment"),
+                jobType(3L, "CONTRACT", "Fixed-term contract")));
+        JobTypeCatalogSnapshot changed = initial
+                .withSaved(2, jobType(2L, "PART_TIME", "Hourly shifts"))
+                .withSaved(3, jobType(4L, "INTERN", "Internship employment"))
+                .withDeleted(4, 1L, null);
+        when(jobTypeCatalog.current()).thenReturn(initial, changed);
+        searchIndex.syncWithCatalog();
+        searchIndex.syncWithCatalog();
+
+        JobTypeSearchIndex rebuilt = new JobTypeSearchIndex(jobTypeCatalog, 10, 50);
+        when(jobTypeCatalog.current()).thenReturn(changed);
+        rebuilt.syncWithCatalog();
+
+        assertEquals(rebuilt.trigramCount(), searchIndex.trigramCount());
+        assertEquals(rebuilt.estimatedBytes(), searchIndex.estimatedBytes());
+        for (String query : List.of("employ", "time", "shift", "contract", "full")) {
+            assertEquals(ids(rebuilt.search(query, 10)), ids(searchIndex.search(query, 10)), query);
+        }
+    }
+
+    @Test
+    void resolveLimit_DefaultsAndCaps() {
+        assertEquals(10, searchIndex.resolveLimit(null));
+        assertEquals(50, searchIndex.resolveLimit(1000));
+        assertThrows(JobTypeServiceException.class, () -> searchIndex.resolveLimit(0));
+    }
+}
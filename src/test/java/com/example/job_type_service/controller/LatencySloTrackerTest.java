@@ -0,0 +1,74 @@
+package com.example.job_type_service.controller;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencySloTrackerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(40);
+
+    @Test
+    void record_CountsBreachesPerHandlerAndStack() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LatencySloTracker tracker = new LatencySloTracker(Duration.ofMillis(20), 0.99);
+        tracker.bindTo(registry);
+        LatencySloTracker.HandlerKey v1 = new LatencySloTracker.HandlerKey("GET", "/api/job-types/{id}", "200");
+        LatencySloTracker.HandlerKey v2 = new LatencySloTracker.HandlerKey("GET", "/api/v2/job-types/{id}", "200");
+
+        for (int i = 0; i < 100; i++) {
+            tracker.record(v1, i < 5 ? SLOW : FAST);
+            tracker.record(v2, i < 1 ? SLOW : FAST);
+        }
+
+        assertEquals(5.0, registry.get("jobtype.http.slo.breaches").tags("stack", "/api/job-types").functionCounter().count());
+        assertEquals(100.0, registry.get("jobtype.http.requests").tags("uri", "/api/v2/job-types/{id}").functionCounter().count());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Map<String, Object>> stacks = (Map<String, Map<String, Object>>) tracker.report().get("stacks");
+        assertEquals(false, stacks.get("/api/job-types").get("meetsTarget"));
+        assertEquals(0.05, (double) stacks.get("/api/job-types").get("breachRatio"), 1e-9);
+        assertEquals(true, stacks.get("/api/v2/job-types").get("meetsTarget"));
+    }
+
+    @Test
+    void report_IncludesPercentilesOfServerRequestTimer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        LatencySloTracker tracker = new LatencySloTracker(Duration.ofMillis(20), 0.99);
+        tracker.bindTo(registry);
+        Timer timer = Timer.builder("http.server.requests")
+                .tags("method", "GET", "uri", "/api/v2/job-types", "status", "200")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(registry);
+        timer.record(Duration.ofMillis(3));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v2/job-types");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServerRequestObservationContext context = new ServerRequestObservationContext(request, response);
+        context.setPathPattern("/api/v2/job-types");
+        tracker.onStart(context);
+        tracker.onStop(context);
+
+        Map<String, Object> report = tracker.report();
+        assertEquals(20L, report.get("targetMs"));
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> handlers = (List<Map<String, Object>>) report.get("handlers");
+        assertEquals(1, handlers.size());
+        assertEquals("200", handlers.get(0).get("status"));
+        assertEquals(1L, handlers.get(0).get("requests"));
+        @SuppressWarnings("unchecked")
+        Map<String, Double> percentiles = (Map<String, Double>) handlers.get(0).get("percentilesMs");
+        assertEquals(List.of("p50", "p99", "p999"), List.copyOf(percentiles.keySet()));
+    }
+}
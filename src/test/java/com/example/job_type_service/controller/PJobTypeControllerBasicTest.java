@@ -1,11 +1,14 @@
 package com.example.job_type_service.controller;
 
+import com.example.job_type_service.cache.JobTypeJsonCache;
+import com.example.job_type_service.dto.JobTypeCollectionStats;
 import com.example.job_type_service.dto.JobTypeRequest;
 import com.example.job_type_service.dto.JobTypeResponse;
 import com.example.job_type_service.dto.UpdateJobTypeRequest;
 import com.example.job_type_service.exception.GlobalExceptionHandler;
 import com.example.job_type_service.exception.JobTypeNotFoundException;
 import com.example.job_type_service.exception.JobTypeServiceException;
+import com.example.job_type_service.repository.RequestTimings;
 import com.example.job_type_service.service.PJobTypeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,8 +16,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -33,9 +38,14 @@ class PJobTypeControllerBasicTest {
     @Mock
     private PJobTypeService pJobTypeService;
 
+    @Spy
+    private JobTypeJsonCache jobTypeJsonCache = new JobTypeJsonCache(Jackson2ObjectMapperBuilder.json().build(), new RequestTimings(false), 100);
+
     @InjectMocks
     private PJobTypeController pJobTypeController;
 
+    private static final LocalDateTime COLLECTION_MAX_UPDATE_DATE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
@@ -45,6 +55,8 @@ class PJobTypeControllerBasicTest {
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
         objectMapper = new ObjectMapper();
+        lenient().when(pJobTypeService.getCollectionStats())
+                .thenReturn(new JobTypeCollectionStats(2, COLLECTION_MAX_UPDATE_DATE));
     }
 
     @Test
@@ -110,7 +122,7 @@ class PJobTypeControllerBasicTest {
                 .updateBy("admin")
                 .build();
 
-        when(pJobTypeService.updateJobType(eq(id), any(UpdateJobTypeRequest.class))).thenReturn(response);
+        when(pJobTypeService.updateJobType(eq(id), any(UpdateJobTypeRequest.class), isNull())).thenReturn(response);
 
         mockMvc.perform(put("/api/job-types/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -126,14 +138,14 @@ class PJobTypeControllerBasicTest {
                     System.out.println("===============================");
                 });
 
-        verify(pJobTypeService).updateJobType(eq(id), any(UpdateJobTypeRequest.class));
+        verify(pJobTypeService).updateJobType(eq(id), any(UpdateJobTypeRequest.class), isNull());
     }
 
     @Test
     void updateJobType_NotFound() throws Exception {
         Long id = 999L;
         UpdateJobTypeRequest request = new UpdateJobTypeRequest("PART_TIME", "Part-time employment", "admin");
-        when(pJobTypeService.updateJobType(eq(id), any(UpdateJobTypeRequest.class)))
+        when(pJobTypeService.updateJobType(eq(id), any(UpdateJobTypeRequest.class), isNull()))
                 .thenThrow(new JobTypeNotFoundException("Job type with ID 999 not found"));
 
         mockMvc.perform(put("/api/job-types/{id}", id)
@@ -142,7 +154,7 @@ class PJobTypeControllerBasicTest {
                 .andExpect(status().isNotFound())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(pJobTypeService).updateJobType(eq(id), any(UpdateJobTypeRequest.class));
+        verify(pJobTypeService).updateJobType(eq(id), any(UpdateJobTypeRequest.class), isNull());
     }
 
     @Test
@@ -188,25 +200,38 @@ class PJobTypeControllerBasicTest {
     @Test
     void deleteJobType_Success() throws Exception {
         Long id = 1L;
-        doNothing().when(pJobTypeService).deleteJobType(id);
+        doNothing().when(pJobTypeService).deleteJobType(id, null);
 
         mockMvc.perform(delete("/api/job-types/{id}", id))
                 .andExpect(status().isNoContent());
 
-        verify(pJobTypeService).deleteJobType(id);
+        verify(pJobTypeService).deleteJobType(id, null);
     }
 
     @Test
     void deleteJobType_NotFound() throws Exception {
         Long id = 999L;
         doThrow(new JobTypeNotFoundException("Job type with ID 999 not found"))
-                .when(pJobTypeService).deleteJobType(id);
+                .when(pJobTypeService).deleteJobType(id, null);
 
         mockMvc.perform(delete("/api/job-types/{id}", id))
                 .andExpect(status().isNotFound())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
 
-        verify(pJobTypeService).deleteJobType(id);
+        verify(pJobTypeService).deleteJobType(id, null);
+    }
+
+    @Test
+    void updateJobType_IfMatchForAnotherItem_ReturnsPreconditionFailed() throws Exception {
+        UpdateJobTypeRequest request = new UpdateJobTypeRequest("PART_TIME", "Part-time employment", "admin");
+
+        mockMvc.perform(put("/api/job-types/{id}", 1L)
+                        .header("If-Match", "\"2-v3\", W/\"1-v3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(pJobTypeService, never()).updateJobType(anyLong(), any(UpdateJobTypeRequest.class), any());
     }
 
     @Test
@@ -287,4 +312,47 @@ class PJobTypeControllerBasicTest {
 
         verify(pJobTypeService).getJobTypeByCode(code);
     }
+
+    @Test
+    void getAllJobTypes_MatchingETag_ReturnsNotModifiedWithoutLoadingList() throws Exception {
+        String eTag = mockMvc.perform(get("/api/job-types"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/job-types").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        verify(pJobTypeService, times(1)).getAllJobTypes();
+    }
+
+    @Test
+    void getAllJobTypes_CollectionChanged_ReturnsFreshList() throws Exception {
+        String eTag = mockMvc.perform(get("/api/job-types"))
+                .andReturn().getResponse().getHeader("ETag");
+        when(pJobTypeService.getCollectionStats()).thenReturn(new JobTypeCollectionStats(3, COLLECTION_MAX_UPDATE_DATE));
+
+        mockMvc.perform(get("/api/job-types").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+
+        verify(pJobTypeService, times(2)).getAllJobTypes();
+    }
+
+    @Test
+    void getJobTypeById_MatchingETag_ReturnsNotModified() throws Exception {
+        JobTypeResponse response = JobTypeResponse.builder()
+                .pJobTypeId(1L)
+                .code("FULL_TIME")
+                .updateDate(COLLECTION_MAX_UPDATE_DATE)
+                .updateBy("admin")
+                .build();
+        when(pJobTypeService.getJobTypeById(1L)).thenReturn(response);
+        String eTag = mockMvc.perform(get("/api/job-types/{id}", 1L))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/job-types/{id}", 1L).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
 }
@@ -1,11 +1,20 @@
 package com.example.job_type_service.controller;
 
+import com.example.job_type_service.cache.JobTypeJsonCache;
+import com.example.job_type_service.dto.JobTypeCollectionStats;
+import com.example.job_type_service.dto.JobTypeBatchGetRequest;
+import com.example.job_type_service.dto.JobTypeBatchGetResponse;
+import com.example.job_type_service.dto.JobTypeBulkDeleteRequest;
+import com.example.job_type_service.dto.JobTypeBulkDeleteResponse;
+import com.example.job_type_service.dto.JobTypePage;
 import com.example.job_type_service.dto.JobTypeRequest;
 import com.example.job_type_service.dto.JobTypeResponse;
 import com.example.job_type_service.dto.UpdateJobTypeRequest;
 import com.example.job_type_service.exception.GlobalExceptionHandler;
 import com.example.job_type_service.exception.JobTypeNotFoundException;
 import com.example.job_type_service.exception.JobTypeServiceException;
+import com.example.job_type_service.exception.JobTypeVersionConflictException;
+import com.example.job_type_service.repository.RequestTimings;
 import com.example.job_type_service.service.PJobTypeJpaService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,15 +22,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.util.function.ThrowingConsumer;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -33,9 +52,17 @@ class PJobTypeJpaControllerTest {
     @Mock
     private PJobTypeJpaService pJobTypeJpaService;
 
+    @Spy
+    private JobTypeJsonCache jobTypeJsonCache = new JobTypeJsonCache(Jackson2ObjectMapperBuilder.json().build(), new RequestTimings(false), 100);
+
+    @Spy
+    private ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+
     @InjectMocks
     private PJobTypeJpaController pJobTypeJpaController;
 
+    private static final LocalDateTime COLLECTION_MAX_UPDATE_DATE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
@@ -45,6 +72,8 @@ class PJobTypeJpaControllerTest {
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
         objectMapper = new ObjectMapper();
+        lenient().when(pJobTypeJpaService.getCollectionStats())
+                .thenReturn(new JobTypeCollectionStats(2, COLLECTION_MAX_UPDATE_DATE));
     }
 
     @Test
@@ -98,7 +127,7 @@ class PJobTypeJpaControllerTest {
                 .updateBy("admin")
                 .build();
 
-        when(pJobTypeJpaService.updateJobType(eq(id), any(UpdateJobTypeRequest.class))).thenReturn(response);
+        when(pJobTypeJpaService.updateJobType(eq(id), any(UpdateJobTypeRequest.class), isNull())).thenReturn(response);
         mockMvc.perform(put("/api/v2/job-types/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
@@ -108,14 +137,14 @@ class PJobTypeJpaControllerTest {
                 .andExpect(jsonPath("$.description").value("Part-time employment"))
                 .andExpect(jsonPath("$.updateBy").value("admin"));
 
-        verify(pJobTypeJpaService).updateJobType(eq(id), any(UpdateJobTypeRequest.class));
+        verify(pJobTypeJpaService).updateJobType(eq(id), any(UpdateJobTypeRequest.class), isNull());
     }
 
     @Test
     void updateJobType_NotFound_ReturnsNotFound() throws Exception {
         Long id = 999L;
         UpdateJobTypeRequest request = new UpdateJobTypeRequest("PART_TIME", "Part-time employment", "admin");
-        when(pJobTypeJpaService.updateJobType(eq(id), any(UpdateJobTypeRequest.class)))
+        when(pJobTypeJpaService.updateJobType(eq(id), any(UpdateJobTypeRequest.class), isNull()))
                 .thenThrow(new JobTypeNotFoundException("Job type with ID 999 not found"));
 
         mockMvc.perform(put("/api/v2/job-types/{id}", id)
@@ -123,7 +152,7 @@ class PJobTypeJpaControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isNotFound());
 
-        verify(pJobTypeJpaService).updateJobType(eq(id), any(UpdateJobTypeRequest.class));
+        verify(pJobTypeJpaService).updateJobType(eq(id), any(UpdateJobTypeRequest.class), isNull());
     }
 
     @Test
@@ -197,22 +226,93 @@ class PJobTypeJpaControllerTest {
     @Test
     void deleteJobType_Success() throws Exception {
         Long id = 1L;
-        doNothing().when(pJobTypeJpaService).deleteJobType(id);
+        doNothing().when(pJobTypeJpaService).deleteJobType(id, null);
         mockMvc.perform(delete("/api/v2/job-types/{id}", id))
                 .andExpect(status().isNoContent());
 
-        verify(pJobTypeJpaService).deleteJobType(id);
+        verify(pJobTypeJpaService).deleteJobType(id, null);
     }
 
     @Test
     void deleteJobType_NotFound_ReturnsNotFound() throws Exception {
         Long id = 999L;
         doThrow(new JobTypeNotFoundException("Job type with ID 999 not found"))
-                .when(pJobTypeJpaService).deleteJobType(id);
+                .when(pJobTypeJpaService).deleteJobType(id, null);
         mockMvc.perform(delete("/api/v2/job-types/{id}", id))
                 .andExpect(status().isNotFound());
 
-        verify(pJobTypeJpaService).deleteJobType(id);
+        verify(pJobTypeJpaService).deleteJobType(id, null);
+    }
+
+    @Test
+    void updateJobType_IfMatch_PassesVersionAndReturnsNewETag() throws Exception {
+        Long id = 1L;
+        UpdateJobTypeRequest request = new UpdateJobTypeRequest("PART_TIME", "Part-time employment", "admin");
+        JobTypeResponse response = JobTypeResponse.builder()
+                .pJobTypeId(id)
+                .code("PART_TIME")
+                .description("Part-time employment")
+                .updateDate(LocalDateTime.now())
+                .updateBy("admin")
+                .version(4L)
+                .build();
+
+        when(pJobTypeJpaService.updateJobType(eq(id), any(UpdateJobTypeRequest.class), eq(3L))).thenReturn(response);
+        mockMvc.perform(put("/api/v2/job-types/{id}", id)
+                        .header("If-Match", "\"1-v3-gzip\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-v4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    void deleteJobType_StaleIfMatch_ReturnsPreconditionFailed() throws Exception {
+        Long id = 1L;
+        doThrow(new JobTypeVersionConflictException("Job type with ID 1 is no longer at version 3"))
+                .when(pJobTypeJpaService).deleteJobType(id, 3L);
+
+        mockMvc.perform(delete("/api/v2/job-types/{id}", id).header("If-Match", "\"1-v3\""))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("Job type with ID 1 is no longer at version 3"));
+    }
+
+    @Test
+    void searchJobTypes_ReturnsRankedMatches() throws Exception {
+        List<JobTypeResponse> ranked = List.of(
+                JobTypeResponse.builder().pJobTypeId(2L).code("TIMESHEET").build(),
+                JobTypeResponse.builder().pJobTypeId(1L).code("PART_TIME").build());
+        when(pJobTypeJpaService.searchJobTypes("time", 2)).thenReturn(ranked);
+
+        mockMvc.perform(get("/api/v2/job-types/search").param("q", "time").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].code").value("TIMESHEET"))
+                .andExpect(jsonPath("$[1].code").value("PART_TIME"));
+    }
+
+    @Test
+    void suggestJobTypes_ReturnsCodesStartingWithPrefix() throws Exception {
+        List<JobTypeResponse> matches = List.of(JobTypeResponse.builder().pJobTypeId(2L).code("FULL_TIME").build());
+        when(pJobTypeJpaService.suggestJobTypes("fu", null)).thenReturn(matches);
+
+        mockMvc.perform(get("/api/v2/job-types/suggest").param("prefix", "fu"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].code").value("FULL_TIME"));
+    }
+
+    @Test
+    void bulkDeleteJobTypes_Success() throws Exception {
+        JobTypeBulkDeleteRequest request = new JobTypeBulkDeleteRequest(List.of(1L, 2L), List.of("OBSOLETE"));
+        when(pJobTypeJpaService.bulkDeleteJobTypes(List.of(1L, 2L), List.of("OBSOLETE")))
+                .thenReturn(new JobTypeBulkDeleteResponse(3, 2));
+
+        mockMvc.perform(post("/api/v2/job-types/bulk-delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.deleted").value(2));
     }
 
     @Test
@@ -268,5 +368,134 @@ class PJobTypeJpaControllerTest {
         verify(pJobTypeJpaService).getAllJobTypes();
     }
 
+    @Test
+    void getAllJobTypes_MatchingETag_ReturnsNotModifiedWithoutLoadingList() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v2/job-types"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v2/job-types").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+
+        verify(pJobTypeJpaService, times(1)).getAllJobTypes();
+    }
+
+    @Test
+    void getAllJobTypes_CollectionChanged_ReturnsFreshList() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v2/job-types"))
+                .andReturn().getResponse().getHeader("ETag");
+        when(pJobTypeJpaService.getCollectionStats()).thenReturn(new JobTypeCollectionStats(3, COLLECTION_MAX_UPDATE_DATE));
+
+        mockMvc.perform(get("/api/v2/job-types").header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+
+        verify(pJobTypeJpaService, times(2)).getAllJobTypes();
+    }
+
+    @Test
+    void getJobTypeById_MatchingETag_ReturnsNotModified() throws Exception {
+        JobTypeResponse response = JobTypeResponse.builder()
+                .pJobTypeId(1L)
+                .code("FULL_TIME")
+                .updateDate(COLLECTION_MAX_UPDATE_DATE)
+                .updateBy("admin")
+                .build();
+        when(pJobTypeJpaService.getJobTypeById(1L)).thenReturn(response);
+        String eTag = mockMvc.perform(get("/api/v2/job-types/{id}", 1L))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v2/job-types/{id}", 1L).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getAllJobTypes_RepeatedRequest_ServesCachedBytesWithoutLoadingList() throws Exception {
+        mockMvc.perform(get("/api/v2/job-types"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v2/job-types"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$").isArray());
+
+        verify(pJobTypeJpaService, times(1)).getAllJobTypes();
+    }
 
+    @Test
+    void getJobTypeById_AcceptsGzip_ReturnsCompressedBody() throws Exception {
+        JobTypeResponse response = JobTypeResponse.builder()
+                .pJobTypeId(1L)
+                .code("FULL_TIME")
+                .updateDate(COLLECTION_MAX_UPDATE_DATE)
+                .updateBy("admin")
+                .build();
+        when(pJobTypeJpaService.getJobTypeById(1L)).thenReturn(response);
+
+        byte[] body = mockMvc.perform(get("/api/v2/job-types/{id}", 1L).header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(header().string("ETag", endsWith("-gzip\"")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(json.contains("\"code\":\"FULL_TIME\""));
+        }
+    }
+
+    @Test
+    void getJobTypePage_ReturnsItemsAndNextCursor() throws Exception {
+        JobTypePage page = new JobTypePage(List.of(JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build()), "aTox");
+        when(pJobTypeJpaService.getJobTypePage("aTow", 1, "id")).thenReturn(page);
+
+        mockMvc.perform(get("/api/v2/job-types/page").param("cursor", "aTow").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].code").value("FULL_TIME"))
+                .andExpect(jsonPath("$.nextCursor").value("aTox"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportJobTypes_StreamsOneJsonObjectPerLine() throws Exception {
+        doAnswer(invocation -> {
+            ThrowingConsumer<JobTypeResponse> sink = invocation.getArgument(0);
+            sink.accept(JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build());
+            sink.accept(JobTypeResponse.builder().pJobTypeId(2L).code("PART_TIME").build());
+            return 2L;
+        }).when(pJobTypeJpaService).exportJobTypes(any(ThrowingConsumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v2/job-types/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"code\":\"FULL_TIME\""));
+        assertTrue(lines[1].contains("\"code\":\"PART_TIME\""));
+    }
+
+    @Test
+    void batchGetJobTypes_ReturnsFoundItemsAndMissingKeys() throws Exception {
+        JobTypeBatchGetRequest request = new JobTypeBatchGetRequest(List.of(1L, 99L), List.of("UNKNOWN"));
+        JobTypeBatchGetResponse response = new JobTypeBatchGetResponse(
+                List.of(JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build()),
+                List.of(99L), List.of("UNKNOWN"));
+        when(pJobTypeJpaService.batchGetJobTypes(List.of(1L, 99L), List.of("UNKNOWN"))).thenReturn(response);
+
+        mockMvc.perform(post("/api/v2/job-types/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].code").value("FULL_TIME"))
+                .andExpect(jsonPath("$.missingIds[0]").value(99))
+                .andExpect(jsonPath("$.missingCodes[0]").value("UNKNOWN"));
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.job_type_service.controller;
+
+import com.example.job_type_service.service.DatabaseInitializationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaReadinessFilterTest {
+
+    @Mock
+    private DatabaseInitializationService databaseInitializationService;
+
+    private SchemaReadinessFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SchemaReadinessFilter(databaseInitializationService, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    private MockHttpServletResponse perform(String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    void doFilter_NotReady_RejectsJobTypeApiWith503() throws Exception {
+        when(databaseInitializationService.isReady()).thenReturn(false);
+
+        MockHttpServletResponse response = perform("/api/v2/job-types/1");
+
+        assertEquals(503, response.getStatus());
+        assertEquals(SchemaReadinessFilter.RETRY_AFTER_SECONDS, response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("schema is not ready"));
+    }
+
+    @Test
+    void doFilter_PassesReadyRequestsHealthAndActuator() throws Exception {
+        when(databaseInitializationService.isReady()).thenReturn(true);
+
+        assertEquals(200, perform("/api/job-types/1").getStatus());
+        assertEquals(200, perform("/api/health").getStatus());
+        assertEquals(200, perform("/actuator/health/liveness").getStatus());
+        verify(databaseInitializationService, times(1)).isReady();
+    }
+}
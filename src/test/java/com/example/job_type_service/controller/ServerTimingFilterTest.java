@@ -0,0 +1,53 @@
+package com.example.job_type_service.controller;
+
+import com.example.job_type_service.repository.RequestTimings;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    private static MockHttpServletResponse perform(RequestTimings timings, String path) throws Exception {
+        HttpServlet handler = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                byte[] body = timings.time(RequestTimings.Phase.DB, () -> "{\"code\":\"FULL_TIME\"}")
+                        .getBytes(StandardCharsets.UTF_8);
+                timings.flag(RequestTimings.CACHE, "miss");
+                timings.serializationStarted();
+                response.getOutputStream().write(body);
+                response.flushBuffer();
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ServerTimingFilter(timings).doFilter(new MockHttpServletRequest("GET", path), response,
+                new MockFilterChain(handler));
+        return response;
+    }
+
+    @Test
+    void doFilter_Enabled_AddsBreakdownAndKeepsBody() throws Exception {
+        MockHttpServletResponse response = perform(new RequestTimings(true), "/api/v2/job-types/1");
+
+        String timing = response.getHeader(ServerTimingFilter.SERVER_TIMING);
+        assertNotNull(timing);
+        assertTrue(timing.matches("pool-wait;dur=[0-9.]+, db;dur=[0-9.]+, mapping;dur=[0-9.]+, "
+                + "serialization;dur=[0-9.]+, cache;desc=miss, total;dur=[0-9.]+"), timing);
+        assertEquals("{\"code\":\"FULL_TIME\"}", response.getContentAsString());
+    }
+
+    @Test
+    void doFilter_DisabledOrExport_LeavesResponseAlone() throws Exception {
+        assertNull(perform(new RequestTimings(false), "/api/v2/job-types/1").getHeader(ServerTimingFilter.SERVER_TIMING));
+        assertNull(perform(new RequestTimings(true), "/api/job-types/export").getHeader(ServerTimingFilter.SERVER_TIMING));
+    }
+}
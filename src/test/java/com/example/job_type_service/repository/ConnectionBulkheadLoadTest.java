@@ -0,0 +1,233 @@
+package com.example.job_type_service.repository;
+
+import com.example.job_type_service.JobTypeServiceApplication;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The service on platform threads vs. virtual threads ({@code spring.threads.virtual.enabled},
+ * which also turns on {@link ConnectionBulkhead}), each booted on the {@code offline} profile and
+ * driven over HTTP through the real request path: the controllers, the stored procedure and JPA
+ * stacks, Hikari and the emulated {@code PACK_TEST}. Any {@code jdk.VirtualThreadPinned} event
+ * with JDBC or Hikari frames on its stack is reported and fails the test. Excluded from the
+ * default build; run with {@code mvn test -Pload-test}.
+ */
+@Tag("load")
+class ConnectionBulkheadLoadTest {
+
+    private static final int POOL_SIZE = 10;
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS = 4000;
+    private static final int SEED_ROWS = 2000;
+
+    // Frames that mean the pinned virtual thread was inside the driver or the pool
+    private static final List<String> JDBC_PACKAGES =
+            List.of("java.sql.", "javax.sql.", "org.h2.", "oracle.jdbc.", "com.zaxxer.hikari.");
+
+    private static final AtomicInteger CODES = new AtomicInteger();
+
+    private record Result(String mode, int completed, int failed, double throughput, double p50Millis, double p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("%-18s completed=%5d failed=%5d throughput=%8.1f req/s p50=%7.1f ms p99=%7.1f ms",
+                    mode, completed, failed, throughput, p50Millis, p99Millis);
+        }
+    }
+
+    @Test
+    void virtualThreadsKeepUpWithPlatformThreadsWithoutPinningInJdbc() throws Exception {
+        Result platform;
+        try (ConfigurableApplicationContext service = start(false)) {
+            String baseUrl = baseUrl(service);
+            run("warm-up", baseUrl);
+            platform = run("platform threads", baseUrl);
+        }
+
+        Result virtual;
+        List<String> pinnedInJdbc = new ArrayList<>();
+        try (ConfigurableApplicationContext service = start(true)) {
+            String baseUrl = baseUrl(service);
+            run("warm-up", baseUrl);
+            virtual = run("virtual threads", baseUrl);
+
+            // Separate pass: recording stack traces slows the run too much to time it
+            try (RecordingStream pins = new RecordingStream()) {
+                pins.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ZERO);
+                pins.onEvent("jdk.VirtualThreadPinned", event -> {
+                    if (inJdbc(event)) {
+                        synchronized (pinnedInJdbc) {
+                            pinnedInJdbc.add(describe(event));
+                        }
+                    }
+                });
+                pins.startAsync();
+                run("pinning check", baseUrl);
+                pins.stop();
+            }
+        }
+
+        System.out.println("=== CONNECTION BULKHEAD LOAD TEST ===");
+        System.out.println("Pool size: " + POOL_SIZE + ", clients: " + CLIENTS + ", requests: " + REQUESTS);
+        System.out.println(platform);
+        System.out.println(virtual);
+        System.out.println("Pinned in JDBC or Hikari: " + pinnedInJdbc.size());
+        pinnedInJdbc.forEach(System.out::println);
+        System.out.println("=====================================");
+
+        assertEquals(0, platform.failed());
+        assertEquals(0, virtual.failed());
+        assertTrue(pinnedInJdbc.isEmpty(), "virtual threads pinned in JDBC or Hikari: " + pinnedInJdbc);
+        assertTrue(virtual.throughput() >= platform.throughput() * 0.8,
+                "virtual throughput " + virtual.throughput() + " vs platform " + platform.throughput());
+    }
+
+    // The catalog is off so every read goes to the database
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(JobTypeServiceApplication.class)
+                .profiles("offline")
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=jdbc:h2:mem:bulkhead_load;MODE=Oracle;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.datasource.hikari.minimum-idle=" + POOL_SIZE,
+                        "job-type.catalog.enabled=false",
+                        "job-type.offline.seed.rows=" + SEED_ROWS)
+                .run();
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext service) throws InterruptedException {
+        String baseUrl = "http://localhost:" + service.getEnvironment().getProperty("local.server.port");
+        HttpClient client = HttpClient.newHttpClient();
+        long deadline = System.currentTimeMillis() + 60000;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/job-types/1")).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return baseUrl;
+                }
+            } catch (Exception e) {
+                // Not listening yet
+            }
+            Thread.sleep(100);
+        }
+        fail("schema not ready at " + baseUrl);
+        return baseUrl;
+    }
+
+    // CLIENTS concurrent callers, mostly reads on both stacks plus creates that take IDs from the
+    // allocator; latency is per request
+    private static Result run(String mode, String baseUrl) throws Exception {
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(REQUESTS);
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long start = System.nanoTime();
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                futures.add(callers.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request(baseUrl), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 300) {
+                                failed.incrementAndGet();
+                            } else {
+                                latencies.add(System.nanoTime() - sent);
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Result(mode, sorted.size(), failed.get(), sorted.size() / seconds,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99));
+    }
+
+    private static HttpRequest request(String baseUrl) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(20);
+        long id = 1 + random.nextInt(SEED_ROWS);
+        HttpRequest.Builder builder;
+        if (pick == 0) {
+            builder = HttpRequest.newBuilder(URI.create(baseUrl + "/api/job-types"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"code\":\"LOAD_" + CODES.incrementAndGet()
+                            + "\",\"description\":\"Load test\",\"updateBy\":\"load\"}"));
+        } else if (pick < 10) {
+            builder = HttpRequest.newBuilder(URI.create(baseUrl + "/api/job-types/" + id));
+        } else {
+            builder = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v2/job-types/" + id));
+        }
+        return builder.timeout(Duration.ofSeconds(60)).build();
+    }
+
+    private static boolean inJdbc(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (JDBC_PACKAGES.stream().anyMatch(type::startsWith)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describe(RecordedEvent event) {
+        return "  pinned " + event.getDuration().toMillis() + " ms at "
+                + event.getStackTrace().getFrames().stream()
+                .limit(12)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+
+    private static double percentileMillis(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+}
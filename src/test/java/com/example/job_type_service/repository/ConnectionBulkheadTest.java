@@ -0,0 +1,60 @@
+package com.example.job_type_service.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionBulkheadTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void getConnection_WaitsForPermitAndReleasesItOnceOnClose() throws SQLException {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(true, 50);
+        DataSource guarded = bulkhead.wrap(dataSource, 1);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        Connection first = guarded.getConnection();
+        assertEquals(0, bulkhead.availablePermits());
+        assertThrows(SQLTransientConnectionException.class, guarded::getConnection);
+
+        first.close();
+        first.close();
+        assertEquals(1, bulkhead.availablePermits());
+        try (Connection second = guarded.getConnection()) {
+            assertNotNull(second);
+        }
+        verify(dataSource, times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_PoolFailureReturnsPermit() throws SQLException {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(true, 50);
+        DataSource guarded = bulkhead.wrap(dataSource, 2);
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, guarded::getConnection);
+        assertEquals(2, bulkhead.availablePermits());
+    }
+
+    @Test
+    void postProcessAfterInitialization_DisabledLeavesDataSourceAlone() {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(false, 50);
+
+        assertSame(dataSource, bulkhead.postProcessAfterInitialization(dataSource, "dataSource"));
+    }
+}
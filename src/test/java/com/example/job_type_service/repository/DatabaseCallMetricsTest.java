@@ -0,0 +1,55 @@
+package com.example.job_type_service.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseCallMetricsTest {
+
+    @Test
+    void record_TimesCallsByOperationAndOutcome() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DatabaseCallMetrics metrics = new DatabaseCallMetrics();
+        metrics.bindTo(registry);
+
+        assertEquals("row", metrics.record("sp", "view_job_type", 7L, () -> "row"));
+        assertThrows(IllegalStateException.class, () -> metrics.record("sp", "view_job_type", 8L, () -> {
+            throw new IllegalStateException("ORA-03113");
+        }));
+
+        assertEquals(1, registry.get("jobtype.db.calls").tags("stack", "sp", "operation", "view_job_type", "outcome", "success").timer().count());
+        assertEquals(1, registry.get("jobtype.db.calls").tags("operation", "view_job_type", "outcome", "error").timer().count());
+    }
+
+    @Test
+    void record_ReusesTimerPerTagsAndRegistersAgainAfterRebind() {
+        SimpleMeterRegistry first = new SimpleMeterRegistry();
+        SimpleMeterRegistry second = new SimpleMeterRegistry();
+        DatabaseCallMetrics metrics = new DatabaseCallMetrics();
+        metrics.bindTo(first);
+
+        metrics.record("sp", "view_job_type", 1L, () -> "row");
+        metrics.record("sp", "view_job_type", 2L, () -> "row");
+        metrics.bindTo(second);
+        metrics.record("sp", "view_job_type", 3L, () -> "row");
+
+        assertEquals(2, first.get("jobtype.db.calls").tags("operation", "view_job_type", "outcome", "success").timer().count());
+        assertEquals(1, second.get("jobtype.db.calls").tags("operation", "view_job_type", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void mark_CountsCallsOnCallingThreadForRoundTripSummary() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DatabaseCallMetrics metrics = new DatabaseCallMetrics();
+        metrics.bindTo(registry);
+
+        long mark = metrics.mark();
+        metrics.record("sp", "insert_job_type_ret", null, () -> 1);
+        metrics.record("sp", "view_job_type", null, () -> 2);
+        metrics.recordRequest(metrics.callsSince(mark) + 3);
+
+        assertEquals(2, metrics.callsSince(mark));
+        assertEquals(5.0, registry.get("jobtype.db.roundtrips").summary().totalAmount());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.job_type_service.repository;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingsTest {
+
+    private static Map<String, String> parse(String header) {
+        Map<String, String> metrics = new LinkedHashMap<>();
+        for (String metric : header.split(", ")) {
+            String[] parts = metric.split(";", 2);
+            metrics.put(parts[0], parts[1]);
+        }
+        return metrics;
+    }
+
+    private static double duration(Map<String, String> metrics, String name) {
+        return Double.parseDouble(metrics.get(name).substring("dur=".length()));
+    }
+
+    @Test
+    void time_NestedPhasesAreExclusive() throws Exception {
+        RequestTimings timings = new RequestTimings(true);
+        timings.begin();
+        timings.flag(RequestTimings.CACHE, "miss");
+        timings.time(RequestTimings.Phase.DB, () -> {
+            sleep(30);
+            return timings.time(RequestTimings.Phase.MAPPING, () -> sleep(100));
+        });
+
+        Map<String, String> metrics = parse(timings.end());
+
+        assertEquals(
+                List.of("pool-wait", "db", "mapping", "serialization", "cache", "total"),
+                List.copyOf(metrics.keySet()));
+        assertTrue(duration(metrics, "db") >= 30 && duration(metrics, "db") < 100, metrics.toString());
+        assertTrue(duration(metrics, "mapping") >= 100, metrics.toString());
+        assertEquals("desc=miss", metrics.get("cache"));
+        assertTrue(duration(metrics, "total") >= duration(metrics, "db") + duration(metrics, "mapping"));
+        assertNull(timings.end());
+    }
+
+    @Test
+    void postProcess_TimesConnectionAcquisitionOnlyWhenEnabled() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:request_timings");
+        RequestTimings disabled = new RequestTimings(false);
+        RequestTimings enabled = new RequestTimings(true);
+
+        assertSame(h2, disabled.postProcessAfterInitialization(h2, "dataSource"));
+        DataSource timed = (DataSource) enabled.postProcessAfterInitialization(h2, "dataSource");
+        enabled.begin();
+        try (Connection connection = timed.getConnection()) {
+            assertTrue(connection.isValid(1));
+        }
+        Map<String, String> metrics = parse(enabled.end());
+
+        assertTrue(duration(metrics, "pool-wait") > 0, metrics.toString());
+        assertFalse(metrics.containsKey("cache"));
+    }
+
+    private static Object sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
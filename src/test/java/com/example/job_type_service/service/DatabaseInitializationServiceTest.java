@@ -1,17 +1,13 @@
 package com.example.job_type_service.service;
 
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,59 +16,75 @@ import static org.mockito.Mockito.*;
 class DatabaseInitializationServiceTest {
 
     @Mock
-    private JdbcTemplate jdbcTemplate;
+    private SchemaMigrationRunner schemaMigrationRunner;
+
+    @Mock
+    private JobTypeIdAllocator jobTypeIdAllocator;
 
     @InjectMocks
     private DatabaseInitializationService databaseInitializationService;
 
-    @BeforeEach
-    void setUp() {
-    }
-
     @Test
     void initializeDatabase_Success() throws IOException {
-        // Arrange
-        String createTableSql = "CREATE TABLE P_JOB_TYPE (ID NUMBER, CODE VARCHAR2(128));";
-        String createPackageSql = "CREATE OR REPLACE PACKAGE PACK_TEST AS END;";
-        String createPackageBodySql = "CREATE OR REPLACE PACKAGE BODY PACK_TEST AS END;";
+        when(schemaMigrationRunner.migrate(DatabaseInitializationService.SCRIPTS)).thenReturn(List.of(
+                new SchemaMigrationRunner.MigrationResult("sql/create_table.sql", 1, SchemaMigrationRunner.Outcome.SKIPPED, 3),
+                new SchemaMigrationRunner.MigrationResult("sql/create_package.sql", 2, SchemaMigrationRunner.Outcome.APPLIED, 40),
+                new SchemaMigrationRunner.MigrationResult("sql/create_package_body.sql", 3, SchemaMigrationRunner.Outcome.APPLIED, 90)));
 
+        assertFalse(databaseInitializationService.isReady());
         assertDoesNotThrow(() -> databaseInitializationService.initializeDatabase());
 
+        assertTrue(databaseInitializationService.isReady());
+        verify(schemaMigrationRunner).migrate(List.of(
+                SchemaMigrationRunner.Script.create("sql/create_table.sql", "P_JOB_TYPE"),
+                SchemaMigrationRunner.Script.upgrade("sql/upgrade_update_date_index.sql"),
+                SchemaMigrationRunner.Script.upgrade("sql/upgrade_sequence_block_size.sql"),
+                SchemaMigrationRunner.Script.upgrade("sql/upgrade_version_column.sql"),
+                SchemaMigrationRunner.Script.repeatable("sql/create_package.sql"),
+                SchemaMigrationRunner.Script.repeatable("sql/create_package_body.sql")));
     }
 
     @Test
-    void initializeDatabase_IOException() {
-        assertDoesNotThrow(() -> databaseInitializationService.initializeDatabase());
-    }
+    void initializeDatabase_IOException() throws IOException {
+        when(schemaMigrationRunner.migrate(anyList())).thenThrow(new IOException("script missing"));
 
-    @Test
-    void executeSqlScript_TableScript() throws IOException {
         assertDoesNotThrow(() -> databaseInitializationService.initializeDatabase());
-    }
 
-    @Test
-    void executeSqlScript_PackageScript() throws IOException {
-        assertDoesNotThrow(() -> databaseInitializationService.initializeDatabase());
+        assertEquals(DatabaseInitializationService.State.FAILED, databaseInitializationService.getState());
+        assertEquals("script missing", databaseInitializationService.getLastError());
     }
 
     @Test
-    void executeSqlScript_EmptyStatements() throws IOException {
-        assertDoesNotThrow(() -> databaseInitializationService.initializeDatabase());
-    }
+    void initializeDatabase_FailedScriptLeavesServiceNotReady() throws IOException {
+        when(schemaMigrationRunner.migrate(anyList())).thenReturn(List.of(
+                new SchemaMigrationRunner.MigrationResult("sql/create_table.sql", 1, SchemaMigrationRunner.Outcome.APPLIED, 5),
+                new SchemaMigrationRunner.MigrationResult("sql/create_package.sql", 2, SchemaMigrationRunner.Outcome.FAILED, 8)));
 
-    @Test
-    void executeSqlScript_StatementExecutionException() throws IOException {
-        assertDoesNotThrow(() -> databaseInitializationService.initializeDatabase());
+        databaseInitializationService.initializeDatabase();
+
+        assertFalse(databaseInitializationService.isReady());
+        assertEquals("Script sql/create_package.sql failed", databaseInitializationService.getLastError());
     }
 
     @Test
-    void executeSqlScript_PackageExecutionException() throws IOException {
-        assertDoesNotThrow(() -> databaseInitializationService.initializeDatabase());
+    void initializeDatabase_SequenceIncrementMismatchLeavesServiceNotReady() throws IOException {
+        when(schemaMigrationRunner.migrate(anyList())).thenReturn(List.of(
+                new SchemaMigrationRunner.MigrationResult("sql/create_table.sql", 1, SchemaMigrationRunner.Outcome.SKIPPED, 3)));
+        doThrow(new IllegalStateException("SEQ_P_JOB_TYPE increments by 1 but job-type.id.block-size is 50"))
+                .when(jobTypeIdAllocator).verifySequence();
+
+        databaseInitializationService.initializeDatabase();
+
+        assertEquals(DatabaseInitializationService.State.FAILED, databaseInitializationService.getState());
+        assertTrue(databaseInitializationService.getLastError().contains("increments by 1"));
     }
 
     @Test
-    void initializeDatabase_IntegrationTest() {
+    void initializeDatabase_DatabaseUnavailable() throws IOException {
+        when(schemaMigrationRunner.migrate(anyList()))
+                .thenThrow(new org.springframework.jdbc.CannotGetJdbcConnectionException("connection refused"));
+
         assertDoesNotThrow(() -> databaseInitializationService.initializeDatabase());
+        assertEquals(DatabaseInitializationService.State.FAILED, databaseInitializationService.getState());
     }
 }
-
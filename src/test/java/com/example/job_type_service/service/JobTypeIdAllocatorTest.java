@@ -0,0 +1,60 @@
+package com.example.job_type_service.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobTypeIdAllocatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void nextId_OneSequenceCallPerBlock() {
+        JobTypeIdAllocator allocator = new JobTypeIdAllocator(jdbcTemplate, 3);
+        when(jdbcTemplate.queryForObject(JobTypeIdAllocator.INCREMENT_QUERY, Long.class)).thenReturn(3L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1)))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(100L));
+
+        List<Long> ids = List.of(allocator.nextId(), allocator.nextId(), allocator.nextId(), allocator.nextId());
+
+        assertEquals(List.of(1L, 2L, 3L, 100L), ids);
+        assertEquals(2, allocator.getBlockFetchCount());
+    }
+
+    @Test
+    void nextIds_DrainsCurrentBlockThenReservesRemainingBlocksInOneQuery() {
+        JobTypeIdAllocator allocator = new JobTypeIdAllocator(jdbcTemplate, 3);
+        when(jdbcTemplate.queryForObject(JobTypeIdAllocator.INCREMENT_QUERY, Long.class)).thenReturn(3L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1))).thenReturn(List.of(1L));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(2))).thenReturn(List.of(10L, 40L));
+
+        allocator.nextId();
+        List<Long> ids = allocator.nextIds(6);
+
+        assertEquals(List.of(2L, 3L, 10L, 11L, 12L, 40L), ids);
+        assertEquals(41L, allocator.nextId());
+        assertEquals(2, allocator.getBlockFetchCount());
+    }
+
+    @Test
+    void nextId_SequenceIncrementingBySomethingElseFailsBeforeHandingOutIds() {
+        JobTypeIdAllocator allocator = new JobTypeIdAllocator(jdbcTemplate, 50);
+        when(jdbcTemplate.queryForObject(JobTypeIdAllocator.INCREMENT_QUERY, Long.class)).thenReturn(1L);
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, allocator::nextId);
+
+        assertTrue(exception.getMessage().contains("increments by 1"));
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Long.class), anyInt());
+    }
+}
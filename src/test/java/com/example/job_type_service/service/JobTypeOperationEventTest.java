@@ -0,0 +1,75 @@
+package com.example.job_type_service.service;
+
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.exception.JobTypeNotFoundException;
+import com.example.job_type_service.repository.DatabaseCallEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobTypeOperationEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void record_WithoutRecording_JustRunsTheWork() {
+        assertEquals("row", JobTypeOperationEvent.record("jpa", "view", "getJobTypeById", 1L, () -> "row"));
+        assertThrows(JobTypeNotFoundException.class, () -> JobTypeOperationEvent.record("jpa", "view", "getJobTypeById", 2L, () -> {
+            throw new JobTypeNotFoundException("Job type with ID 2 not found");
+        }));
+    }
+
+    @Test
+    void record_WhileRecording_EmitsOperationAndDatabaseCallEvents() throws Exception {
+        Path file = tempDir.resolve("job-types.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("com.example.jobtype.Operation");
+            recording.enable("com.example.jobtype.DatabaseCall");
+            recording.start();
+
+            JobTypeOperationEvent.record("jpa", "view", "getJobTypeById", 7L,
+                    () -> DatabaseCallEvent.record("jpa", "findById", 7L,
+                            () -> Optional.of(JobTypeResponse.builder().pJobTypeId(7L).build())).orElseThrow());
+            assertThrows(JobTypeNotFoundException.class, () -> JobTypeOperationEvent.run("sp", "delete", "deleteJobType", 8L, () -> {
+                throw new JobTypeNotFoundException("Job type with ID 8 not found");
+            }));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent view = find(events, "com.example.jobtype.Operation", "getJobTypeById");
+        assertEquals("jpa", view.getString("stack"));
+        assertEquals("view", view.getString("operation"));
+        assertEquals("7", view.getString("key"));
+        assertEquals(1L, view.getLong("rows"));
+        assertEquals("success", view.getString("outcome"));
+
+        RecordedEvent findById = find(events, "com.example.jobtype.DatabaseCall", "findById");
+        assertEquals(1L, findById.getLong("rows"));
+        assertFalse(findById.getStartTime().isBefore(view.getStartTime()));
+
+        RecordedEvent delete = find(events, "com.example.jobtype.Operation", "deleteJobType");
+        assertEquals("not_found", delete.getString("outcome"));
+        assertEquals(0L, delete.getLong("rows"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String type, String name) {
+        String field = type.endsWith("Operation") ? "method" : "operation";
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(type))
+                .filter(event -> name.equals(event.getString(field)))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + type + " event for " + name));
+    }
+}
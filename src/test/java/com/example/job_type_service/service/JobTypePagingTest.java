@@ -0,0 +1,56 @@
+package com.example.job_type_service.service;
+
+import com.example.job_type_service.dto.JobTypePage;
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.exception.JobTypeServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobTypePagingTest {
+
+    private final JobTypePaging paging = new JobTypePaging(2, 3);
+
+    private static JobTypeResponse jobType(long id, String code) {
+        return JobTypeResponse.builder().pJobTypeId(id).code(code).build();
+    }
+
+    @Test
+    void resolveSize_DefaultsAndCapsRequestedSize() {
+        assertEquals(2, paging.resolveSize(null));
+        assertEquals(3, paging.resolveSize(1000));
+        assertThrows(JobTypeServiceException.class, () -> paging.resolveSize(0));
+    }
+
+    @Test
+    void toPage_ExtraRowProducesCursorForLastItem() {
+        JobTypePage page = paging.toPage(List.of(jobType(1L, "A"), jobType(2L, "B:X"), jobType(3L, "C")),
+                2, JobTypePaging.Sort.CODE);
+
+        assertEquals(2, page.items().size());
+        JobTypePaging.Cursor cursor = paging.decode(page.nextCursor(), JobTypePaging.Sort.CODE);
+        assertEquals(2L, cursor.afterId());
+        assertEquals("B:X", cursor.afterCode());
+    }
+
+    @Test
+    void toPage_LastPageHasNoCursor() {
+        JobTypePage page = paging.toPage(List.of(jobType(1L, "A")), 2, JobTypePaging.Sort.ID);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void decode_RejectsGarbageAndCursorFromOtherSort() {
+        String idCursor = paging.toPage(List.of(jobType(1L, "A"), jobType(2L, "B")), 1, JobTypePaging.Sort.ID)
+                .nextCursor();
+
+        assertEquals(1L, paging.decode(idCursor, JobTypePaging.Sort.ID).afterId());
+        assertThrows(JobTypeServiceException.class, () -> paging.decode(idCursor, JobTypePaging.Sort.CODE));
+        assertThrows(JobTypeServiceException.class, () -> paging.decode("not a cursor!", JobTypePaging.Sort.ID));
+        assertThrows(JobTypeServiceException.class, () -> paging.resolveSort("update_date"));
+    }
+}
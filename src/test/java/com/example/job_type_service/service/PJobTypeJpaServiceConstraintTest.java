@@ -0,0 +1,116 @@
+package com.example.job_type_service.service;
+
+import com.example.job_type_service.cache.JobTypeCache;
+import com.example.job_type_service.cache.JobTypeCatalog;
+import com.example.job_type_service.cache.JobTypeCodeIndex;
+import com.example.job_type_service.cache.JobTypeLoadCoalescer;
+import com.example.job_type_service.cache.JobTypeSearchIndex;
+import com.example.job_type_service.dto.JobTypeRequest;
+import com.example.job_type_service.dto.JobTypeResponse;
+import com.example.job_type_service.dto.UpdateJobTypeRequest;
+import com.example.job_type_service.exception.JobTypeServiceException;
+import com.example.job_type_service.exception.JobTypeVersionConflictException;
+import com.example.job_type_service.repository.JpaStatementCounter;
+import com.example.job_type_service.repository.PJobTypeRepository;
+import com.example.job_type_service.repository.RequestTimings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the JPA write path against H2 in Oracle mode so the unique index on {@code CODE}, not a
+ * pre-check query, is what rejects duplicates.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:job_types;MODE=Oracle;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "job-type.catalog.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PJobTypeJpaService.class, JobTypeCache.class, JobTypeCatalog.class, JobTypePaging.class, JpaStatementCounter.class,
+        JobTypeSearchIndex.class, JobTypeCodeIndex.class, JobTypeLoadCoalescer.class, RequestTimings.class})
+class PJobTypeJpaServiceConstraintTest {
+
+    @Autowired
+    private PJobTypeJpaService jobTypeJpaService;
+
+    @Autowired
+    private PJobTypeRepository jobTypeRepository;
+
+    @Autowired
+    private JpaStatementCounter statementCounter;
+
+    @AfterEach
+    void tearDown() {
+        jobTypeRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void insertJobType_DuplicateCodeRejectedByUniqueIndex() {
+        jobTypeJpaService.insertJobType(new JobTypeRequest("FULL_TIME", "Full-time employment", "admin"));
+
+        JobTypeServiceException exception = assertThrows(JobTypeServiceException.class,
+                () -> jobTypeJpaService.insertJobType(new JobTypeRequest("FULL_TIME", "Again", "admin")));
+
+        assertEquals("Job type with code 'FULL_TIME' already exists", exception.getMessage());
+        assertEquals(1, jobTypeRepository.count());
+    }
+
+    @Test
+    void updateJobType_CodeTakenByAnotherRowRejectedByUniqueIndex() {
+        jobTypeJpaService.insertJobType(new JobTypeRequest("FULL_TIME", "Full-time employment", "admin"));
+        JobTypeResponse partTime = jobTypeJpaService.insertJobType(
+                new JobTypeRequest("PART_TIME", "Part-time employment", "admin"));
+
+        JobTypeServiceException exception = assertThrows(JobTypeServiceException.class,
+                () -> jobTypeJpaService.updateJobType(partTime.getPJobTypeId(),
+                        new UpdateJobTypeRequest("FULL_TIME", "Clash", "admin")));
+
+        assertEquals("Job type with code 'FULL_TIME' already exists", exception.getMessage());
+        assertEquals("PART_TIME", jobTypeRepository.findById(partTime.getPJobTypeId()).orElseThrow().getCode());
+    }
+
+    @Test
+    void writes_IssueOneStatementEach() {
+        jobTypeJpaService.insertJobType(new JobTypeRequest("WARM_UP", "Reserves the first ID block", "admin"));
+
+        long mark = statementCounter.mark();
+        JobTypeResponse inserted = jobTypeJpaService.insertJobType(
+                new JobTypeRequest("CONTRACT", "Contract employment", "admin"));
+        assertEquals(1, statementCounter.statementsSince(mark));
+
+        mark = statementCounter.mark();
+        JobTypeResponse updated = jobTypeJpaService.updateJobType(inserted.getPJobTypeId(),
+                new UpdateJobTypeRequest("CONTRACT", "Fixed-term contract", "admin"), inserted.getVersion());
+        assertEquals(1, statementCounter.statementsSince(mark));
+        assertEquals(inserted.getVersion() + 1, updated.getVersion());
+    }
+
+    @Test
+    void updateJobType_StaleVersionRejected() {
+        JobTypeResponse inserted = jobTypeJpaService.insertJobType(
+                new JobTypeRequest("FULL_TIME", "Full-time employment", "admin"));
+        jobTypeJpaService.updateJobType(inserted.getPJobTypeId(),
+                new UpdateJobTypeRequest("FULL_TIME", "First writer", "alice"), inserted.getVersion());
+
+        assertThrows(JobTypeVersionConflictException.class, () -> jobTypeJpaService.updateJobType(
+                inserted.getPJobTypeId(), new UpdateJobTypeRequest("FULL_TIME", "Second writer", "bob"),
+                inserted.getVersion()));
+        assertThrows(JobTypeVersionConflictException.class,
+                () -> jobTypeJpaService.deleteJobType(inserted.getPJobTypeId(), inserted.getVersion()));
+        assertEquals("First writer",
+                jobTypeRepository.findById(inserted.getPJobTypeId()).orElseThrow().getDescription());
+    }
+}
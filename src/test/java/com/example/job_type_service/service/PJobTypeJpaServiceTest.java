@@ -1,24 +1,48 @@
 package com.example.job_type_service.service;
 
+import com.example.job_type_service.cache.JobTypeCache;
+import com.example.job_type_service.cache.JobTypeCatalog;
+import com.example.job_type_service.cache.JobTypeLoadCoalescer;
+import com.example.job_type_service.cache.JobTypeCatalogSnapshot;
+import com.example.job_type_service.cache.JobTypeCodeIndex;
+import com.example.job_type_service.cache.JobTypeSearchIndex;
+import com.example.job_type_service.dto.JobTypeBatchGetResponse;
+import com.example.job_type_service.dto.JobTypeBulkDeleteResponse;
+import com.example.job_type_service.dto.JobTypePage;
 import com.example.job_type_service.dto.JobTypeRequest;
 import com.example.job_type_service.dto.JobTypeResponse;
 import com.example.job_type_service.dto.UpdateJobTypeRequest;
 import com.example.job_type_service.entity.PJobType;
+import com.example.job_type_service.event.JobTypeChangedEvent;
+import com.example.job_type_service.event.JobTypesDeletedEvent;
 import com.example.job_type_service.exception.JobTypeNotFoundException;
 import com.example.job_type_service.exception.JobTypeServiceException;
+import com.example.job_type_service.exception.JobTypeVersionConflictException;
+import com.example.job_type_service.repository.JpaStatementCounter;
 import com.example.job_type_service.repository.PJobTypeRepository;
+import com.example.job_type_service.repository.RequestTimings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.io.IOException;
+import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +57,33 @@ class PJobTypeJpaServiceTest {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    @Mock
+    private JobTypeCache jobTypeCache;
+
+    @Mock
+    private JobTypeCatalog jobTypeCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JpaStatementCounter statementCounter;
+
+    @Mock
+    private JobTypeSearchIndex jobTypeSearchIndex;
+
+    @Mock
+    private JobTypeCodeIndex jobTypeCodeIndex;
+
+    @Spy
+    private JobTypePaging jobTypePaging = new JobTypePaging(2, 100);
+
+    @Spy
+    private JobTypeLoadCoalescer loadCoalescer = new JobTypeLoadCoalescer();
+
+    @Spy
+    private RequestTimings requestTimings = new RequestTimings(false);
+
     @InjectMocks
     private PJobTypeJpaService jobTypeJpaService;
 
@@ -57,8 +108,7 @@ class PJobTypeJpaServiceTest {
     @Test
     void insertJobType_Success() {
         Long newId = 1L;
-        when(jobTypeRepository.existsByCode(testJobTypeRequest.getCode())).thenReturn(false);
-        when(jobTypeRepository.save(any(PJobType.class))).thenReturn(testJobType);
+        when(jobTypeRepository.saveAndFlush(any(PJobType.class))).thenReturn(testJobType);
         JobTypeResponse result = jobTypeJpaService.insertJobType(testJobTypeRequest);
 
         assertNotNull(result);
@@ -73,13 +123,15 @@ class PJobTypeJpaServiceTest {
         System.out.println("Generated ID: " + result.getPJobTypeId());
         System.out.println("=====================================");
         
-        verify(jobTypeRepository).existsByCode(testJobTypeRequest.getCode());
-        verify(jobTypeRepository).save(any(PJobType.class));
+        verify(jobTypeRepository, never()).existsByCode(anyString());
+        verify(jobTypeRepository).saveAndFlush(any(PJobType.class));
     }
 
     @Test
     void insertJobType_CodeAlreadyExists_ThrowsException() {
-        when(jobTypeRepository.existsByCode(testJobTypeRequest.getCode())).thenReturn(true);
+        when(jobTypeRepository.saveAndFlush(any(PJobType.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", new SQLException(
+                        "ORA-00001: unique constraint (SYSTEM.UK_P_JOB_TYPE_CODE) violated", "23000", 1)));
         JobTypeServiceException exception = assertThrows(JobTypeServiceException.class,
                 () -> jobTypeJpaService.insertJobType(testJobTypeRequest));
 
@@ -91,16 +143,26 @@ class PJobTypeJpaServiceTest {
         System.out.println("Message: " + exception.getMessage());
         System.out.println("==================================================");
         
-        verify(jobTypeRepository).existsByCode(testJobTypeRequest.getCode());
-        verify(jobTypeRepository, never()).save(any(PJobType.class));
+        verify(jobTypeRepository, never()).existsByCode(anyString());
+    }
+
+    @Test
+    void insertJobType_OtherIntegrityViolationNotReportedAsDuplicateCode() {
+        when(jobTypeRepository.saveAndFlush(any(PJobType.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", new SQLException(
+                        "ORA-00001: unique constraint (SYSTEM.PK_P_JOB_TYPE) violated", "23000", 1)));
+        JobTypeServiceException exception = assertThrows(JobTypeServiceException.class,
+                () -> jobTypeJpaService.insertJobType(testJobTypeRequest));
+
+        assertEquals("Failed to insert job type: could not execute statement", exception.getMessage());
     }
 
     @Test
     void updateJobType_Success() {
         Long id = 1L;
-        when(jobTypeRepository.findById(id)).thenReturn(Optional.of(testJobType));
-        when(jobTypeRepository.existsByCode(testUpdateRequest.getCode())).thenReturn(false);
-        when(jobTypeRepository.save(any(PJobType.class))).thenReturn(testJobType);
+        when(jobTypeRepository.updateJobType(eq(id), isNull(), eq("PART_TIME"), eq("Part-time employment"),
+                any(LocalDateTime.class), eq("admin"))).thenReturn(1);
+        when(jobTypeRepository.findVersionById(id)).thenReturn(Optional.of(4L));
 
         JobTypeResponse result = jobTypeJpaService.updateJobType(id, testUpdateRequest);
 
@@ -109,6 +171,7 @@ class PJobTypeJpaServiceTest {
         assertEquals("PART_TIME", result.getCode());
         assertEquals("Part-time employment", result.getDescription());
         assertEquals("admin", result.getUpdateBy());
+        assertEquals(4L, result.getVersion());
 
         System.out.println("=== UPDATE JOB TYPE SUCCESS (JPA) ===");
         System.out.println("ID: " + id);
@@ -116,15 +179,16 @@ class PJobTypeJpaServiceTest {
         System.out.println("Result: " + result);
         System.out.println("=====================================");
         
-        verify(jobTypeRepository).findById(id);
-        verify(jobTypeRepository).existsByCode(testUpdateRequest.getCode());
-        verify(jobTypeRepository).save(any(PJobType.class));
+        verify(jobTypeRepository, never()).findById(anyLong());
+        verify(jobTypeRepository, never()).existsByCode(anyString());
+        verify(jobTypeRepository, never()).save(any(PJobType.class));
     }
 
     @Test
     void updateJobType_NotFound_ThrowsException() {
         Long id = 999L;
-        when(jobTypeRepository.findById(id)).thenReturn(Optional.empty());
+        when(jobTypeRepository.updateJobType(eq(id), isNull(), anyString(), anyString(), any(LocalDateTime.class),
+                anyString())).thenReturn(0);
         JobTypeNotFoundException exception = assertThrows(JobTypeNotFoundException.class,
                 () -> jobTypeJpaService.updateJobType(id, testUpdateRequest));
 
@@ -137,8 +201,46 @@ class PJobTypeJpaServiceTest {
         System.out.println("Message: " + exception.getMessage());
         System.out.println("========================================");
         
-        verify(jobTypeRepository).findById(id);
-        verify(jobTypeRepository, never()).save(any(PJobType.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateJobType_WithExpectedVersion_SingleStatement() {
+        Long id = 1L;
+        when(jobTypeRepository.updateJobType(eq(id), eq(3L), eq("PART_TIME"), eq("Part-time employment"),
+                any(LocalDateTime.class), eq("admin"))).thenReturn(1);
+
+        JobTypeResponse result = jobTypeJpaService.updateJobType(id, testUpdateRequest, 3L);
+
+        assertEquals(4L, result.getVersion());
+        verify(jobTypeRepository, never()).findVersionById(anyLong());
+        verify(jobTypeRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void updateJobType_StaleVersion_ThrowsConflict() {
+        Long id = 1L;
+        when(jobTypeRepository.updateJobType(eq(id), eq(3L), anyString(), anyString(), any(LocalDateTime.class),
+                anyString())).thenReturn(0);
+        when(jobTypeRepository.existsById(id)).thenReturn(true);
+
+        JobTypeVersionConflictException exception = assertThrows(JobTypeVersionConflictException.class,
+                () -> jobTypeJpaService.updateJobType(id, testUpdateRequest, 3L));
+
+        assertEquals("Job type with ID 1 is no longer at version 3", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void deleteJobType_StaleVersion_ThrowsConflict() {
+        Long id = 1L;
+        when(jobTypeRepository.deleteByIdAndVersion(id, 3L)).thenReturn(0);
+        when(jobTypeRepository.existsById(id)).thenReturn(true);
+
+        assertThrows(JobTypeVersionConflictException.class, () -> jobTypeJpaService.deleteJobType(id, 3L));
+
+        verify(jobTypeRepository, never()).deleteById(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -223,7 +325,7 @@ class PJobTypeJpaServiceTest {
     @Test
     void deleteJobType_Success() {
         Long id = 1L;
-        when(jobTypeRepository.existsById(id)).thenReturn(true);
+        when(jobTypeRepository.deleteJobTypeById(id)).thenReturn(1);
 
         assertDoesNotThrow(() -> jobTypeJpaService.deleteJobType(id));
         System.out.println("=== DELETE JOB TYPE SUCCESS (JPA) ===");
@@ -231,14 +333,15 @@ class PJobTypeJpaServiceTest {
         System.out.println("Status: Successfully deleted");
         System.out.println("=====================================");
         
-        verify(jobTypeRepository).existsById(id);
-        verify(jobTypeRepository).deleteById(id);
+        verify(jobTypeRepository).deleteJobTypeById(id);
+        verify(jobTypeRepository, never()).existsById(anyLong());
+        verify(jobTypeRepository, never()).deleteById(anyLong());
     }
 
     @Test
     void deleteJobType_NotFound_ThrowsException() {
         Long id = 999L;
-        when(jobTypeRepository.existsById(id)).thenReturn(false);
+        when(jobTypeRepository.deleteJobTypeById(id)).thenReturn(0);
         JobTypeNotFoundException exception = assertThrows(JobTypeNotFoundException.class,
                 () -> jobTypeJpaService.deleteJobType(id));
 
@@ -250,14 +353,14 @@ class PJobTypeJpaServiceTest {
         System.out.println("Message: " + exception.getMessage());
         System.out.println("=======================================");
         
-        verify(jobTypeRepository).existsById(id);
-        verify(jobTypeRepository, never()).deleteById(any());
+        verify(jobTypeRepository).deleteJobTypeById(id);
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void deleteJobTypeByCode_Success() {
         String code = "FULL_TIME";
-        when(jobTypeRepository.existsByCode(code)).thenReturn(true);
+        when(jobTypeRepository.deleteByCode(code)).thenReturn(1);
         assertDoesNotThrow(() -> jobTypeJpaService.deleteJobTypeByCode(code));
 
         System.out.println("=== DELETE JOB TYPE BY CODE SUCCESS (JPA) ===");
@@ -265,14 +368,14 @@ class PJobTypeJpaServiceTest {
         System.out.println("Status: Successfully deleted");
         System.out.println("=============================================");
         
-        verify(jobTypeRepository).existsByCode(code);
         verify(jobTypeRepository).deleteByCode(code);
+        verify(jobTypeRepository, never()).existsByCode(anyString());
     }
 
     @Test
     void deleteJobTypeByCode_NotFound_ThrowsException() {
         String code = "INVALID_CODE";
-        when(jobTypeRepository.existsByCode(code)).thenReturn(false);
+        when(jobTypeRepository.deleteByCode(code)).thenReturn(0);
         JobTypeNotFoundException exception = assertThrows(JobTypeNotFoundException.class,
                 () -> jobTypeJpaService.deleteJobTypeByCode(code));
 
@@ -284,8 +387,26 @@ class PJobTypeJpaServiceTest {
         System.out.println("Message: " + exception.getMessage());
         System.out.println("==============================================");
         
-        verify(jobTypeRepository).existsByCode(code);
-        verify(jobTypeRepository, never()).deleteByCode(any());
+        verify(jobTypeRepository).deleteByCode(code);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void bulkDeleteJobTypes_ChunksKeysAndPublishesOneEvent() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+        ids.add(1L);
+        when(jobTypeRepository.deleteAllByIdIn(anyList())).thenReturn(1000, 1000, 400);
+        when(jobTypeRepository.deleteAllByCodeIn(List.of("OBSOLETE"))).thenReturn(1);
+
+        JobTypeBulkDeleteResponse response = jobTypeJpaService.bulkDeleteJobTypes(ids, List.of("OBSOLETE", "OBSOLETE"));
+
+        assertEquals(2501, response.requested());
+        assertEquals(2401, response.deleted());
+        verify(jobTypeRepository, times(3)).deleteAllByIdIn(argThat(chunk -> chunk.size() <= 1000));
+        verify(eventPublisher, times(1)).publishEvent(any(JobTypesDeletedEvent.class));
     }
 
     @Test
@@ -345,24 +466,62 @@ class PJobTypeJpaServiceTest {
     }
 
     @Test
-    void searchJobTypesByDescription_Success() {
+    void searchJobTypes_CatalogDisabled_QueriesDatabase() {
         String description = "employment";
         List<PJobType> jobTypes = Arrays.asList(testJobType);
-        when(jobTypeRepository.findByDescriptionContainingIgnoreCase(description)).thenReturn(jobTypes);
+        when(jobTypeSearchIndex.resolveLimit(null)).thenReturn(20);
+        when(jobTypeRepository.searchByCodeOrDescription(description, Limit.of(20))).thenReturn(jobTypes);
 
-        List<JobTypeResponse> result = jobTypeJpaService.searchJobTypesByDescription(description);
+        List<JobTypeResponse> result = jobTypeJpaService.searchJobTypes(description, null);
 
         assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals("FULL_TIME", result.get(0).getCode());
         
-        System.out.println("=== SEARCH JOB TYPES BY DESCRIPTION SUCCESS (JPA) ===");
+        System.out.println("=== SEARCH JOB TYPES SUCCESS (JPA) ===");
         System.out.println("Search term: " + description);
         System.out.println("Results count: " + result.size());
         System.out.println("First result: " + result.get(0));
-        System.out.println("=====================================================");
+        System.out.println("======================================");
         
-        verify(jobTypeRepository).findByDescriptionContainingIgnoreCase(description);
+        verify(jobTypeRepository).searchByCodeOrDescription(description, Limit.of(20));
+        verify(jobTypeSearchIndex, never()).search(anyString(), anyInt());
+    }
+
+    @Test
+    void searchJobTypes_CatalogEnabled_UsesIndex() {
+        List<JobTypeResponse> ranked = List.of(JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build());
+        when(jobTypeCatalog.isEnabled()).thenReturn(true);
+        when(jobTypeSearchIndex.resolveLimit(5)).thenReturn(5);
+        when(jobTypeSearchIndex.search("full", 5)).thenReturn(ranked);
+
+        assertEquals(ranked, jobTypeJpaService.searchJobTypes("full", 5));
+        assertThrows(JobTypeServiceException.class, () -> jobTypeJpaService.searchJobTypes("  ", 5));
+        verifyNoInteractions(jobTypeRepository);
+    }
+
+    @Test
+    void suggestJobTypes_CatalogDisabled_EscapesLikeWildcards() {
+        when(jobTypeCodeIndex.resolveLimit(null)).thenReturn(10);
+        when(jobTypeRepository.findByCodePrefix("full!_%", Limit.of(10))).thenReturn(List.of(testJobType));
+
+        List<JobTypeResponse> result = jobTypeJpaService.suggestJobTypes(" Full_", null);
+
+        assertEquals(1, result.size());
+        assertEquals("FULL_TIME", result.get(0).getCode());
+        verify(jobTypeCodeIndex, never()).suggest(anyString(), anyInt());
+    }
+
+    @Test
+    void suggestJobTypes_CatalogEnabled_UsesCodeIndex() {
+        List<JobTypeResponse> matches = List.of(JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build());
+        when(jobTypeCatalog.isEnabled()).thenReturn(true);
+        when(jobTypeCodeIndex.resolveLimit(5)).thenReturn(5);
+        when(jobTypeCodeIndex.suggest("ful", 5)).thenReturn(matches);
+
+        assertEquals(matches, jobTypeJpaService.suggestJobTypes("FUL", 5));
+        assertThrows(JobTypeServiceException.class, () -> jobTypeJpaService.suggestJobTypes("x".repeat(129), 5));
+        verifyNoInteractions(jobTypeRepository);
     }
 
     @Test
@@ -490,4 +649,99 @@ class PJobTypeJpaServiceTest {
         
         verify(jobTypeRepository).count();
     }
+
+    @Test
+    void getJobTypeById_CacheHit_SkipsRepository() {
+        JobTypeResponse cached = JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build();
+        when(jobTypeCache.getById(1L)).thenReturn(cached);
+
+        JobTypeResponse result = jobTypeJpaService.getJobTypeById(1L);
+
+        assertSame(cached, result);
+        verifyNoInteractions(jobTypeRepository);
+    }
+
+    @Test
+    void getJobTypeByCode_CacheMiss_PopulatesCache() {
+        when(jobTypeCache.generation()).thenReturn(7L);
+        when(jobTypeRepository.findByCode("FULL_TIME")).thenReturn(Optional.of(testJobType));
+
+        JobTypeResponse result = jobTypeJpaService.getJobTypeByCode("FULL_TIME");
+
+        verify(jobTypeCache).put(7L, result);
+    }
+
+    @Test
+    void deleteJobTypeByCode_PublishesChangeEvent() {
+        when(jobTypeRepository.deleteByCode("FULL_TIME")).thenReturn(1);
+
+        jobTypeJpaService.deleteJobTypeByCode("FULL_TIME");
+
+        verify(eventPublisher).publishEvent(JobTypeChangedEvent.deleted(null, "FULL_TIME"));
+    }
+
+    @Test
+    void getAllJobTypesOrderByCodeAsc_CatalogEnabled_ServedFromSnapshot() {
+        JobTypeCatalogSnapshot snapshot = mock(JobTypeCatalogSnapshot.class);
+        List<JobTypeResponse> ordered = List.of(JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build());
+        when(jobTypeCatalog.isEnabled()).thenReturn(true);
+        when(jobTypeCatalog.current()).thenReturn(snapshot);
+        when(snapshot.orderedByCode()).thenReturn(ordered);
+
+        List<JobTypeResponse> result = jobTypeJpaService.getAllJobTypesOrderByCodeAsc();
+
+        assertSame(ordered, result);
+        verifyNoInteractions(jobTypeRepository);
+    }
+
+    @Test
+    void getJobTypePage_SeeksPastCursorWithoutOffset() {
+        PJobType second = new PJobType(2L, "PART_TIME", "Part-time", LocalDateTime.now(), "admin");
+        PJobType third = new PJobType(3L, "CONTRACT", "Contract", LocalDateTime.now(), "admin");
+        when(jobTypeRepository.findPageById(Limit.of(2))).thenReturn(List.of(testJobType, second));
+        when(jobTypeRepository.findPageByIdAfter(1L, Limit.of(2))).thenReturn(List.of(second, third));
+
+        JobTypePage first = jobTypeJpaService.getJobTypePage(null, 1, "id");
+        JobTypePage next = jobTypeJpaService.getJobTypePage(first.nextCursor(), 1, "id");
+
+        assertEquals(1L, first.items().get(0).getPJobTypeId());
+        assertEquals(2L, next.items().get(0).getPJobTypeId());
+        assertNotNull(next.nextCursor());
+        verify(jobTypeRepository, never()).count();
+    }
+
+    @Test
+    void exportJobTypes_FailingSinkClosesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        JobTypeResponse row = JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build();
+        when(jobTypeRepository.streamAllForExport()).thenReturn(Stream.of(row, row).onClose(() -> closed.set(true)));
+
+        assertThrows(JobTypeServiceException.class, () -> jobTypeJpaService.exportJobTypes(jobType -> {
+            throw new IOException("Broken pipe");
+        }));
+
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void batchGetJobTypes_UsesCacheCollapsesDuplicatesAndChunksInLists() {
+        JobTypeResponse cached = JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build();
+        when(jobTypeCache.getById(1L)).thenReturn(cached);
+        List<String> codes = IntStream.range(0, PJobTypeJpaService.IN_CLAUSE_LIMIT + 1).mapToObj(i -> "CODE_" + i).toList();
+        List<String> withDuplicates = new ArrayList<>(codes);
+        withDuplicates.add("CODE_0");
+        when(jobTypeRepository.findAllByCodeIn(anyCollection()))
+                .thenReturn(List.of(new PJobType(5L, "CODE_0", null, LocalDateTime.now(), "admin")))
+                .thenReturn(List.of());
+        when(jobTypeRepository.findAllByIdIn(anyCollection())).thenReturn(List.of());
+
+        JobTypeBatchGetResponse result = jobTypeJpaService.batchGetJobTypes(List.of(1L, 1L, 9L), withDuplicates);
+
+        assertEquals(List.of(1L, 5L), result.items().stream().map(JobTypeResponse::getPJobTypeId).toList());
+        assertEquals(List.of(9L), result.missingIds());
+        assertEquals(PJobTypeJpaService.IN_CLAUSE_LIMIT, result.missingCodes().size());
+        verify(jobTypeRepository).findAllByIdIn(List.of(9L));
+        verify(jobTypeRepository, times(2)).findAllByCodeIn(anyCollection());
+        verify(jobTypeRepository, never()).findById(anyLong());
+    }
 }
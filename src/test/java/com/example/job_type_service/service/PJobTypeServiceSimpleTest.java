@@ -1,18 +1,29 @@
 package com.example.job_type_service.service;
 
+import com.example.job_type_service.cache.JobTypeCache;
+import com.example.job_type_service.cache.JobTypeCatalog;
+import com.example.job_type_service.cache.JobTypeLoadCoalescer;
+import com.example.job_type_service.dto.JobTypeBulkInsertResponse;
 import com.example.job_type_service.dto.JobTypeRequest;
 import com.example.job_type_service.dto.JobTypeResponse;
 import com.example.job_type_service.dto.UpdateJobTypeRequest;
+import com.example.job_type_service.event.JobTypeChangedEvent;
 import com.example.job_type_service.exception.JobTypeNotFoundException;
 import com.example.job_type_service.exception.JobTypeServiceException;
+import com.example.job_type_service.exception.JobTypeVersionConflictException;
+import com.example.job_type_service.repository.DatabaseCallMetrics;
+import com.example.job_type_service.repository.RequestTimings;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -31,6 +42,27 @@ class PJobTypeServiceSimpleTest {
     @Mock
     private JdbcTemplate jdbcTemplate;
 
+    @Mock
+    private JobTypeCache jobTypeCache;
+
+    @Mock
+    private JobTypeCatalog jobTypeCatalog;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JobTypeIdAllocator jobTypeIdAllocator;
+
+    @Spy
+    private JobTypeLoadCoalescer loadCoalescer = new JobTypeLoadCoalescer();
+
+    @Spy
+    private DatabaseCallMetrics databaseCallMetrics = new DatabaseCallMetrics();
+
+    @Spy
+    private RequestTimings requestTimings = new RequestTimings(false);
+
     @InjectMocks
     private PJobTypeService pJobTypeService;
 
@@ -44,17 +76,16 @@ class PJobTypeServiceSimpleTest {
     }
 
     @Test
-    void insertJobType_Success() {
-        when(jdbcTemplate.queryForObject("SELECT SEQ_P_JOB_TYPE.NEXTVAL FROM dual", Long.class))
-                .thenReturn(1L);
+    void insertJobType_Success() throws SQLException {
+        when(jobTypeIdAllocator.nextId()).thenReturn(1L);
+        CallableStatement cs = mock(CallableStatement.class);
+        when(cs.getString(5)).thenReturn("FULL_TIME");
+        when(cs.getString(6)).thenReturn("Full-time employment");
+        when(cs.getTimestamp(7)).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+        when(cs.getString(8)).thenReturn("admin");
         
         when(jdbcTemplate.execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class)))
                 .thenAnswer(invocation -> {
-                    CallableStatement cs = mock(CallableStatement.class);
-                    lenient().when(cs.getString(2)).thenReturn("FULL_TIME");
-                    lenient().when(cs.getString(3)).thenReturn("Full-time employment");
-                    lenient().when(cs.getTimestamp(4)).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
-                    lenient().when(cs.getString(5)).thenReturn("admin");
                     return invocation.getArgument(1, org.springframework.jdbc.core.CallableStatementCallback.class)
                             .doInCallableStatement(cs);
                 });
@@ -72,14 +103,14 @@ class PJobTypeServiceSimpleTest {
         System.out.println("Generated ID: " + result.getPJobTypeId());
         System.out.println("===============================");
         
-        verify(jdbcTemplate).queryForObject("SELECT SEQ_P_JOB_TYPE.NEXTVAL FROM dual", Long.class);
-        verify(jdbcTemplate, times(2)).execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class));
+        verify(jobTypeIdAllocator).nextId();
+        verify(jdbcTemplate, times(1)).execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class));
+        verify(cs, times(1)).execute();
     }
 
     @Test
     void insertJobType_SQLException() {
-        when(jdbcTemplate.queryForObject("SELECT SEQ_P_JOB_TYPE.NEXTVAL FROM dual", Long.class))
-                .thenReturn(1L);
+        when(jobTypeIdAllocator.nextId()).thenReturn(1L);
         when(jdbcTemplate.execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class)))
                 .thenThrow(new RuntimeException("SQL Error", new SQLException("Database error")));
 
@@ -94,15 +125,15 @@ class PJobTypeServiceSimpleTest {
     }
 
     @Test
-    void updateJobType_Success() {
+    void updateJobType_Success() throws SQLException {
         Long id = 1L;
+        CallableStatement cs = mock(CallableStatement.class);
+        when(cs.getString(5)).thenReturn("PART_TIME");
+        when(cs.getString(6)).thenReturn("Part-time employment");
+        when(cs.getTimestamp(7)).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+        when(cs.getString(8)).thenReturn("admin");
         when(jdbcTemplate.execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class)))
                 .thenAnswer(invocation -> {
-                    CallableStatement cs = mock(CallableStatement.class);
-                    lenient().when(cs.getString(2)).thenReturn("PART_TIME");
-                    lenient().when(cs.getString(3)).thenReturn("Part-time employment");
-                    lenient().when(cs.getTimestamp(4)).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
-                    lenient().when(cs.getString(5)).thenReturn("admin");
                     return invocation.getArgument(1, org.springframework.jdbc.core.CallableStatementCallback.class)
                             .doInCallableStatement(cs);
                 });
@@ -120,7 +151,8 @@ class PJobTypeServiceSimpleTest {
         System.out.println("Result: " + result);
         System.out.println("===============================");
         
-        verify(jdbcTemplate, times(2)).execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class));
+        verify(cs, times(1)).execute();
+        verify(jdbcTemplate, times(1)).execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class));
     }
 
     @Test
@@ -141,6 +173,23 @@ class PJobTypeServiceSimpleTest {
         System.out.println("==================================");
     }
 
+    @Test
+    void updateJobType_StaleVersion_ThrowsConflict() throws SQLException {
+        Long id = 1L;
+        CallableStatement cs = mock(CallableStatement.class);
+        doThrow(new SQLException("ORA-20003: stale", "72000", 20003)).when(cs).execute();
+        when(jdbcTemplate.execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1, org.springframework.jdbc.core.CallableStatementCallback.class)
+                        .doInCallableStatement(cs));
+
+        JobTypeVersionConflictException exception = assertThrows(JobTypeVersionConflictException.class,
+                () -> pJobTypeService.updateJobType(id, updateJobTypeRequest, 3L));
+        assertEquals("Job type with ID 1 is no longer at version 3", exception.getMessage());
+
+        verify(cs).setLong(9, 3L);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void getJobTypeById_Success() {
         Long id = 1L;
@@ -168,6 +217,7 @@ class PJobTypeServiceSimpleTest {
         System.out.println("===================================");
         
         verify(jdbcTemplate).execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class));
+        verify(databaseCallMetrics).record(eq("sp"), eq("view_job_type"), eq(id), any(), any());
     }
 
     @Test
@@ -309,4 +359,83 @@ class PJobTypeServiceSimpleTest {
                 () -> pJobTypeService.getJobTypeByCode(code));
         assertTrue(exception.getMessage().contains("Failed to retrieve job type by code"));
     }
+
+    @Test
+    void getJobTypeByCode_CacheHit_SkipsStoredProcedure() {
+        JobTypeResponse cached = JobTypeResponse.builder().pJobTypeId(1L).code("FULL_TIME").build();
+        when(jobTypeCache.getByCode("FULL_TIME")).thenReturn(cached);
+
+        JobTypeResponse result = pJobTypeService.getJobTypeByCode("FULL_TIME");
+
+        assertSame(cached, result);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void updateJobType_PublishesChangeEventWithPersistedRow() {
+        when(jdbcTemplate.execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class)))
+                .thenAnswer(invocation -> {
+                    CallableStatement cs = mock(CallableStatement.class);
+                    when(cs.getString(5)).thenReturn("PART_TIME");
+                    when(cs.getTimestamp(7)).thenReturn(Timestamp.valueOf(LocalDateTime.now()));
+                    return invocation.getArgument(1, org.springframework.jdbc.core.CallableStatementCallback.class)
+                            .doInCallableStatement(cs);
+                });
+
+        JobTypeResponse result = pJobTypeService.updateJobType(1L, updateJobTypeRequest);
+
+        verify(eventPublisher).publishEvent(JobTypeChangedEvent.saved(result));
+        verify(jobTypeCache, never()).getById(anyLong());
+    }
+
+    @Test
+    void bulkInsertJobTypes_DuplicateRowReportedAndBatchResumed() throws Exception {
+        List<JobTypeRequest> requests = List.of(
+                new JobTypeRequest("FULL_TIME", "Full-time employment", "admin"),
+                new JobTypeRequest("PART_TIME", "Part-time employment", "admin"),
+                new JobTypeRequest("CONTRACT", "Contract employment", "admin"),
+                new JobTypeRequest("FULL_TIME", "Duplicate in request", "admin"));
+        when(jobTypeIdAllocator.nextIds(4)).thenReturn(List.of(11L, 12L, 13L, 14L));
+        CallableStatement cs = mock(CallableStatement.class);
+        when(cs.executeBatch())
+                .thenThrow(new BatchUpdateException("ORA-00001: unique constraint (SYSTEM.UK_P_JOB_TYPE_CODE) violated", "23000", 1, new int[]{1}))
+                .thenReturn(new int[]{1});
+        when(jdbcTemplate.execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1, org.springframework.jdbc.core.CallableStatementCallback.class)
+                        .doInCallableStatement(cs));
+
+        JobTypeBulkInsertResponse result = pJobTypeService.bulkInsertJobTypes(requests);
+
+        System.out.println("=== BULK INSERT JOB TYPES ===");
+        System.out.println("Result: " + result);
+        System.out.println("=============================");
+
+        assertEquals(2, result.inserted());
+        assertEquals(2, result.failed());
+        assertEquals(11L, result.results().get(0).id());
+        assertTrue(result.results().get(1).error().contains("already exists"));
+        assertEquals(13L, result.results().get(2).id());
+        assertTrue(result.results().get(3).error().contains("more than once"));
+        verify(cs, times(4)).addBatch();
+        verify(cs, times(2)).executeBatch();
+        verify(jdbcTemplate, times(1)).execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class));
+    }
+
+    @Test
+    void bulkInsertJobTypes_PrimaryKeyCollisionNotReportedAsDuplicateCode() throws Exception {
+        List<JobTypeRequest> requests = List.of(new JobTypeRequest("FULL_TIME", "Full-time employment", "admin"));
+        when(jobTypeIdAllocator.nextIds(1)).thenReturn(List.of(11L));
+        CallableStatement cs = mock(CallableStatement.class);
+        when(cs.executeBatch())
+                .thenThrow(new BatchUpdateException("ORA-00001: unique constraint (SYSTEM.PK_P_JOB_TYPE) violated", "23000", 1, new int[0]));
+        when(jdbcTemplate.execute(anyString(), any(org.springframework.jdbc.core.CallableStatementCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1, org.springframework.jdbc.core.CallableStatementCallback.class)
+                        .doInCallableStatement(cs));
+
+        JobTypeBulkInsertResponse result = pJobTypeService.bulkInsertJobTypes(requests);
+
+        assertEquals(1, result.failed());
+        assertEquals("Failed to insert job type: ORA-00001: unique constraint (SYSTEM.PK_P_JOB_TYPE) violated",
+                result.results().get(0).error());
+    }
 }
@@ -0,0 +1,238 @@
+package com.example.job_type_service.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static com.example.job_type_service.service.SchemaMigrationRunner.Outcome.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchemaMigrationRunnerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private static String checksum(String script) throws Exception {
+        try (InputStream in = SchemaMigrationRunnerTest.class.getClassLoader().getResourceAsStream(script)) {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(in.readAllBytes()));
+        }
+    }
+
+    private void givenHistory(Map<String, String> checksums) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Map.Entry<String, String> row : checksums.entrySet()) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(1)).thenReturn(row.getKey());
+                when(rs.getString(2)).thenReturn(row.getValue());
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT SCRIPT, CHECKSUM"), any(RowCallbackHandler.class));
+    }
+
+    private static BadSqlGrammarException tableNotFound() {
+        return new BadSqlGrammarException("history", "SELECT",
+                new SQLException("ORA-00942: table or view does not exist", "42000", 942));
+    }
+
+    // Every script of DatabaseInitializationService.SCRIPTS recorded with its current checksum
+    private static Map<String, String> fullHistory() throws Exception {
+        Map<String, String> history = new HashMap<>();
+        for (SchemaMigrationRunner.Script script : DatabaseInitializationService.SCRIPTS) {
+            history.put(script.path(), checksum(script.path()));
+        }
+        return history;
+    }
+
+    private void givenNoHistory() {
+        doThrow(tableNotFound()).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    private void givenJobTypeTable() {
+        when(jdbcTemplate.queryForList("SELECT 1 FROM P_JOB_TYPE WHERE 1 = 0")).thenReturn(List.of());
+    }
+
+    private void givenNoJobTypeTable() {
+        when(jdbcTemplate.queryForList("SELECT 1 FROM P_JOB_TYPE WHERE 1 = 0")).thenThrow(tableNotFound());
+    }
+
+    private void givenPackagesCompile() {
+        when(jdbcTemplate.queryForList(eq(SchemaMigrationRunner.PACKAGE_STATUS_QUERY), eq(String.class), any()))
+                .thenReturn(List.of("VALID"));
+    }
+
+    private static List<SchemaMigrationRunner.Outcome> outcomes(List<SchemaMigrationRunner.MigrationResult> report) {
+        return report.stream().map(SchemaMigrationRunner.MigrationResult::outcome).toList();
+    }
+
+    @Test
+    void migrate_UnchangedScriptsIssueNoDdl() throws Exception {
+        givenHistory(fullHistory());
+
+        List<SchemaMigrationRunner.MigrationResult> report =
+                new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(SKIPPED, SKIPPED, SKIPPED, SKIPPED, SKIPPED, SKIPPED), outcomes(report));
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void migrate_EmptySchemaRunsCreateScriptAndBaselinesUpgrades() throws Exception {
+        givenNoHistory();
+        givenNoJobTypeTable();
+        givenPackagesCompile();
+
+        SchemaMigrationRunner runner = new SchemaMigrationRunner(jdbcTemplate);
+        List<SchemaMigrationRunner.MigrationResult> report = runner.migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(APPLIED, BASELINED, BASELINED, BASELINED, APPLIED, APPLIED), outcomes(report));
+        assertEquals(report, runner.getLastReport());
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE SCHEMA_MIGRATION_HISTORY"));
+        verify(jdbcTemplate).execute(contains("CREATE TABLE P_JOB_TYPE"));
+        verify(jdbcTemplate, never()).execute(contains("ALTER "));
+        verify(jdbcTemplate, times(6)).update(startsWith("INSERT INTO SCHEMA_MIGRATION_HISTORY"), any(Object[].class));
+    }
+
+    @Test
+    void migrate_SchemaWithoutHistoryBaselinesCreateScriptAndRunsUpgrades() throws Exception {
+        givenNoHistory();
+        givenJobTypeTable();
+        givenPackagesCompile();
+
+        List<SchemaMigrationRunner.MigrationResult> report =
+                new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(BASELINED, APPLIED, APPLIED, APPLIED, APPLIED, APPLIED), outcomes(report));
+        verify(jdbcTemplate, never()).execute(contains("CREATE TABLE P_JOB_TYPE"));
+        verify(jdbcTemplate).execute(contains("CREATE INDEX IDX_P_JOB_TYPE_UPDATE_DATE"));
+        verify(jdbcTemplate).execute(contains("ALTER SEQUENCE SEQ_P_JOB_TYPE INCREMENT BY 50"));
+        verify(jdbcTemplate).execute(contains("ALTER TABLE P_JOB_TYPE ADD (VERSION"));
+    }
+
+    @Test
+    void migrate_NewUpgradeRunsOnce() throws Exception {
+        Map<String, String> history = fullHistory();
+        history.remove("sql/upgrade_version_column.sql");
+        givenHistory(history);
+
+        List<SchemaMigrationRunner.MigrationResult> report =
+                new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(SKIPPED, SKIPPED, SKIPPED, APPLIED, SKIPPED, SKIPPED), outcomes(report));
+        verify(jdbcTemplate).execute(anyString());
+        verify(jdbcTemplate).execute(contains("ALTER TABLE P_JOB_TYPE ADD (VERSION"));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO SCHEMA_MIGRATION_HISTORY"), eq("sql/upgrade_version_column.sql"),
+                eq(4), eq(checksum("sql/upgrade_version_column.sql")), any(), anyLong());
+    }
+
+    @Test
+    void migrate_AppliedUpgradeThatChangedFailsWithoutRunning() throws Exception {
+        Map<String, String> history = fullHistory();
+        history.put("sql/upgrade_sequence_block_size.sql", "stale");
+        givenHistory(history);
+
+        List<SchemaMigrationRunner.MigrationResult> report =
+                new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(SKIPPED, SKIPPED, FAILED), outcomes(report));
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void migrate_CreateScriptIsNotComparedOnceApplied() throws Exception {
+        Map<String, String> history = fullHistory();
+        history.put("sql/create_table.sql", "older target schema");
+        givenHistory(history);
+
+        List<SchemaMigrationRunner.MigrationResult> report =
+                new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(SKIPPED, SKIPPED, SKIPPED, SKIPPED, SKIPPED, SKIPPED), outcomes(report));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void migrate_ChangedPackageReappliesItAndEveryLaterPackage() throws Exception {
+        Map<String, String> history = fullHistory();
+        history.put("sql/create_package.sql", "stale");
+        givenHistory(history);
+        givenPackagesCompile();
+
+        List<SchemaMigrationRunner.MigrationResult> report =
+                new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(SKIPPED, SKIPPED, SKIPPED, SKIPPED, APPLIED, APPLIED), outcomes(report));
+        verify(jdbcTemplate, times(2)).execute(startsWith("CREATE OR REPLACE PACKAGE"));
+        verify(jdbcTemplate, times(2)).update(startsWith("UPDATE SCHEMA_MIGRATION_HISTORY"), any(Object[].class));
+    }
+
+    @Test
+    void migrate_AnyStatementErrorFailsTheScript() throws Exception {
+        givenNoHistory();
+        givenJobTypeTable();
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.contains("CREATE INDEX")) {
+                throw new BadSqlGrammarException("upgrade", sql,
+                        new SQLException("ORA-00955: name is already used by an existing object", "42000", 955));
+            }
+            return null;
+        }).when(jdbcTemplate).execute(anyString());
+
+        List<SchemaMigrationRunner.MigrationResult> report =
+                new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(BASELINED, FAILED), outcomes(report));
+        verify(jdbcTemplate, never()).execute(contains("ALTER "));
+        verify(jdbcTemplate, times(1)).update(startsWith("INSERT INTO SCHEMA_MIGRATION_HISTORY"), any(Object[].class));
+    }
+
+    @Test
+    void migrate_PackageCompiledWithErrorsFails() throws Exception {
+        Map<String, String> history = fullHistory();
+        history.remove("sql/create_package.sql");
+        history.remove("sql/create_package_body.sql");
+        givenHistory(history);
+        when(jdbcTemplate.queryForList(SchemaMigrationRunner.PACKAGE_STATUS_QUERY, String.class, "PACKAGE"))
+                .thenReturn(List.of("INVALID"));
+        when(jdbcTemplate.queryForList(SchemaMigrationRunner.PACKAGE_ERRORS_QUERY, String.class, "PACKAGE"))
+                .thenReturn(List.of("12:5 PLS-00103: Encountered the symbol \"END\""));
+
+        List<SchemaMigrationRunner.MigrationResult> report =
+                new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS);
+
+        assertEquals(List.of(SKIPPED, SKIPPED, SKIPPED, SKIPPED, FAILED), outcomes(report));
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE OR REPLACE PACKAGE BODY"));
+    }
+
+    @Test
+    void migrate_HistoryReadFailureOtherThanMissingTableIsRethrown() {
+        doThrow(new UncategorizedSQLException("history", "SELECT",
+                new SQLException("ORA-01031: insufficient privileges", "42000", 1031)))
+                .when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        assertThrows(UncategorizedSQLException.class,
+                () -> new SchemaMigrationRunner(jdbcTemplate).migrate(DatabaseInitializationService.SCRIPTS));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}